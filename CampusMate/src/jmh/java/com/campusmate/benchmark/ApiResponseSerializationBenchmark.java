@@ -0,0 +1,50 @@
+package com.campusmate.benchmark;
+
+import com.campusmate.dto.CourseMaterialSummaryDTO;
+import com.campusmate.dto.response.ApiResponse;
+import com.campusmate.dto.response.ProjectResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * JSON serialization of ApiResponse envelopes with an ObjectMapper configured like Spring MVC's
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"20", "200"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<ProjectResponseDto>> projectsResponse;
+    private ApiResponse<List<CourseMaterialSummaryDTO>> materialsResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        projectsResponse = ApiResponse.success("Projects retrieved successfully",
+            BenchmarkData.projects(size).stream().map(ProjectResponseDto::new).collect(Collectors.toList()));
+        materialsResponse = ApiResponse.success("Materials retrieved successfully",
+            BenchmarkData.materialRows(size).stream().map(BenchmarkData::toSummary).collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public byte[] serializeProjects() throws Exception {
+        return objectMapper.writeValueAsBytes(projectsResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeMaterials() throws Exception {
+        return objectMapper.writeValueAsBytes(materialsResponse);
+    }
+}
@@ -0,0 +1,74 @@
+package com.campusmate.benchmark;
+
+import com.campusmate.dto.CourseMaterialSummaryDTO;
+import com.campusmate.entity.Project;
+import com.campusmate.entity.User;
+import com.campusmate.enums.ProjectStatus;
+import com.campusmate.enums.UserRole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Deterministic fixtures shared by the benchmarks; a fixed seed keeps runs comparable
+ */
+final class BenchmarkData {
+
+    static final long SEED = 42L;
+
+    static final String[] SKILLS = {
+        "java", "spring", "react", "python", "sql", "docker", "kubernetes", "ml", "design", "figma",
+        "typescript", "go", "rust", "aws", "testing", "android", "ios", "data-analysis", "writing", "statistics"
+    };
+
+    // Pinned so DTO timestamps serialize to the same bytes on every run
+    static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 15, 12, 0);
+
+    private BenchmarkData() {}
+
+    static List<Project> projects(int count) {
+        Random random = new Random(SEED);
+        User leader = new User("leader@campusmate.edu", "unused", "Team", "Leader", UserRole.STUDENT);
+        leader.setId("leader-1");
+
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Project project = new Project("Project " + i, "Description for project " + i, "Category " + (i % 7),
+                leader, null, ProjectStatus.RECRUITING, 2 + random.nextInt(6), BASE_TIME.plusDays(random.nextInt(120)));
+            project.setId("project-" + i);
+            project.setCurrentMembers(1);
+            project.setSkillsRequired(randomSkills(random, 1 + random.nextInt(5)));
+            projects.add(project);
+        }
+        return projects;
+    }
+
+    static List<Object[]> materialRows(int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[] {
+                "material-" + i, "Lecture " + i, "Slides for lecture " + i, "LECTURE",
+                "lecture-" + i + ".pdf", 250_000L + i, Boolean.TRUE,
+                BASE_TIME.plusHours(i), BASE_TIME.plusHours(i), "Professor Smith"
+            });
+        }
+        return rows;
+    }
+
+    static CourseMaterialSummaryDTO toSummary(Object[] row) {
+        return new CourseMaterialSummaryDTO((String) row[0], (String) row[1], (String) row[2], (String) row[3],
+            (String) row[4], (Long) row[5], (Boolean) row[6], (LocalDateTime) row[7], (LocalDateTime) row[8], (String) row[9]);
+    }
+
+    static Set<String> randomSkills(Random random, int count) {
+        Set<String> skills = new LinkedHashSet<>();
+        while (skills.size() < count) {
+            skills.add(SKILLS[random.nextInt(SKILLS.length)]);
+        }
+        return skills;
+    }
+}
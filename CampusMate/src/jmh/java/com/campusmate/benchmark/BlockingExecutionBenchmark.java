@@ -0,0 +1,99 @@
+package com.campusmate.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Platform vs virtual threads for request-shaped work: a little CPU around a blocking wait
+ * standing in for a JDBC round trip or an SMTP send.
+ *
+ * The platform pool has Tomcat's default 200 threads. The pinned variant does its blocking wait
+ * inside an uncontended synchronized block, which on JDK 21 keeps the virtual thread on its
+ * carrier, so it shows what a synchronized block around JDBC costs in virtual-thread mode.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+public class BlockingExecutionBenchmark {
+
+    private static final int TOMCAT_DEFAULT_MAX_THREADS = 200;
+
+    // Must match @OperationsPerInvocation
+    private static final int BATCH = 1000;
+
+    @Param({"5"})
+    private int blockingMillis;
+
+    private ExecutorService platformPool;
+    private ExecutorService virtualThreads;
+    private Object[] monitors;
+
+    @Setup
+    public void setUp() {
+        platformPool = Executors.newFixedThreadPool(TOMCAT_DEFAULT_MAX_THREADS);
+        virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+        // One monitor per task, so the pinned variant measures pinning and not lock contention
+        monitors = new Object[BATCH];
+        for (int i = 0; i < monitors.length; i++) {
+            monitors[i] = new Object();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        platformPool.shutdownNow();
+        virtualThreads.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void platformThreads() throws Exception {
+        runBatch(platformPool, i -> this::request);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void virtualThreads() throws Exception {
+        runBatch(virtualThreads, i -> this::request);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void virtualThreadsPinned() throws Exception {
+        runBatch(virtualThreads, i -> () -> {
+            synchronized (monitors[i]) {
+                return request();
+            }
+        });
+    }
+
+    private void runBatch(ExecutorService executor, IntFunction<Callable<Long>> tasks) throws Exception {
+        List<Future<Long>> futures = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            futures.add(executor.submit(tasks.apply(i)));
+        }
+        for (Future<Long> future : futures) {
+            future.get();
+        }
+    }
+
+    private long request() throws InterruptedException {
+        long hash = System.nanoTime();
+        for (int i = 0; i < 1_000; i++) {
+            hash = hash * 31 + i;
+        }
+        Thread.sleep(blockingMillis);
+        return hash;
+    }
+}
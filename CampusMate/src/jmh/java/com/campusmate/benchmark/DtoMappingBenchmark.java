@@ -0,0 +1,52 @@
+package com.campusmate.benchmark;
+
+import com.campusmate.dto.CourseMaterialSummaryDTO;
+import com.campusmate.dto.response.ProjectResponseDto;
+import com.campusmate.entity.Project;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/row to DTO mapping for a typical page of projects and course materials
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DtoMappingBenchmark {
+
+    @Param({"20", "200"})
+    private int size;
+
+    private List<Project> projects;
+    private List<Object[]> materialRows;
+
+    @Setup
+    public void setUp() {
+        projects = BenchmarkData.projects(size);
+        materialRows = BenchmarkData.materialRows(size);
+    }
+
+    @Benchmark
+    public List<ProjectResponseDto> mapProjects() {
+        List<ProjectResponseDto> dtos = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            dtos.add(new ProjectResponseDto(project));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<CourseMaterialSummaryDTO> mapMaterialSummaries() {
+        List<CourseMaterialSummaryDTO> dtos = new ArrayList<>(materialRows.size());
+        for (Object[] row : materialRows) {
+            dtos.add(BenchmarkData.toSummary(row));
+        }
+        return dtos;
+    }
+}
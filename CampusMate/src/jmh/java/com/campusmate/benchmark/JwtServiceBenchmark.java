@@ -0,0 +1,52 @@
+package com.campusmate.benchmark;
+
+import com.campusmate.entity.User;
+import com.campusmate.enums.UserRole;
+import com.campusmate.service.JwtService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and parse, which every authenticated request pays in JwtAuthenticationFilter
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        // Same secret and lifetimes as the application.yml defaults
+        ReflectionTestUtils.setField(jwtService, "secretKey", "Z2V0dGluZ19zdGFydGVkX3dpdGhfc3ByaW5nX2Jvb3RfYW5kX2phdmE");
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86400000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 604800000L);
+
+        user = new User("student@campusmate.edu", "unused", "Bench", "Student", UserRole.STUDENT);
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String issueToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String parseToken() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.isTokenValid(token, user);
+    }
+}
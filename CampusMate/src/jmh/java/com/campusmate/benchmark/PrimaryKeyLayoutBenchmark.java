@@ -0,0 +1,211 @@
+package com.campusmate.benchmark;
+
+import com.campusmate.util.UuidV7;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput and index size of the queries, responses and votes tables with random v4
+ * ids in VARCHAR(255) columns (the old mapping), UUIDv7 ids in the same VARCHAR columns (what
+ * the tables that still have VARCHAR keys get), and UUIDv7 ids in native uuid columns.
+ *
+ * Each layout gets its own embedded Postgres with a small shared_buffers, preloaded so the
+ * indexes outgrow the buffer cache the way they do in production; random keys then keep
+ * touching cold pages while time-ordered keys append to the rightmost leaf. One operation
+ * is a query with its responses and votes, written in batches of QUERIES_PER_BATCH. Index
+ * sizes per row are printed at the end of each trial, since JMH only reports throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class PrimaryKeyLayoutBenchmark {
+
+    // Must match @OperationsPerInvocation
+    private static final int QUERIES_PER_BATCH = 100;
+    private static final int RESPONSES_PER_QUERY = 3;
+    private static final int VOTES_PER_TARGET = 2;
+    private static final int USERS = 1_000;
+
+    private static final String[] TABLES = {"queries", "responses", "votes"};
+    private static final String[] INDEXES = {
+        "queries_pkey", "responses_pkey", "idx_response_query", "votes_pkey", "idx_vote_target", "idx_vote_unique"
+    };
+
+    @Param({"VARCHAR_V4", "VARCHAR_V7", "UUID_V7"})
+    private String layout;
+
+    @Param({"100000"})
+    private int preloadedQueries;
+
+    private EmbeddedPostgres postgres;
+    private Connection connection;
+    private PreparedStatement insertQuery;
+    private PreparedStatement insertResponse;
+    private PreparedStatement insertVote;
+    private String[] userIds;
+    private int nextUser;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        postgres = EmbeddedPostgres.builder()
+            .setServerConfig("shared_buffers", "32MB")
+            .setServerConfig("synchronous_commit", "off") // measure index maintenance, not fsync
+            .start();
+        connection = postgres.getPostgresDatabase().getConnection();
+
+        String idType = "UUID_V7".equals(layout) ? "UUID" : "VARCHAR(255)";
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("CREATE TABLE queries (id " + idType + " PRIMARY KEY, author_id VARCHAR(255) NOT NULL, "
+                + "title VARCHAR(255) NOT NULL, content TEXT NOT NULL, created_at TIMESTAMP NOT NULL)");
+            ddl.execute("CREATE TABLE responses (id " + idType + " PRIMARY KEY, "
+                + "query_id " + idType + " NOT NULL REFERENCES queries(id), author_id VARCHAR(255) NOT NULL, "
+                + "content TEXT NOT NULL, created_at TIMESTAMP NOT NULL)");
+            ddl.execute("CREATE INDEX idx_response_query ON responses(query_id)");
+            ddl.execute("CREATE TABLE votes (id " + idType + " PRIMARY KEY, user_id VARCHAR(255) NOT NULL, "
+                + "target_type VARCHAR(20) NOT NULL, target_id " + idType + " NOT NULL, "
+                + "vote_type VARCHAR(10) NOT NULL, created_at TIMESTAMP NOT NULL)");
+            ddl.execute("CREATE INDEX idx_vote_target ON votes(target_type, target_id)");
+            ddl.execute("CREATE UNIQUE INDEX idx_vote_unique ON votes(user_id, target_type, target_id)");
+        }
+        connection.setAutoCommit(false);
+        insertQuery = connection.prepareStatement(
+            "INSERT INTO queries (id, author_id, title, content, created_at) VALUES (?, ?, ?, ?, ?)");
+        insertResponse = connection.prepareStatement(
+            "INSERT INTO responses (id, query_id, author_id, content, created_at) VALUES (?, ?, ?, ?, ?)");
+        insertVote = connection.prepareStatement(
+            "INSERT INTO votes (id, user_id, target_type, target_id, vote_type, created_at) VALUES (?, ?, ?, ?, ?, ?)");
+
+        // User ids are VARCHAR v4 in both layouts, as the users table is not converted
+        userIds = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            userIds[i] = UUID.randomUUID().toString();
+        }
+        for (int loaded = 0; loaded < preloadedQueries; loaded += QUERIES_PER_BATCH) {
+            insertBatch();
+        }
+        try (Statement analyze = connection.createStatement()) {
+            analyze.execute("ANALYZE");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        try {
+            reportSizes();
+        } finally {
+            connection.close();
+            postgres.close();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public void insertQueriesWithResponsesAndVotes() throws SQLException {
+        insertBatch();
+    }
+
+    private void insertBatch() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int q = 0; q < QUERIES_PER_BATCH; q++) {
+            Object queryId = newId();
+            insertQuery.setObject(1, queryId);
+            insertQuery.setString(2, nextUserId());
+            insertQuery.setString(3, "How do I balance a red-black tree?");
+            insertQuery.setString(4, "Rotations keep confusing me after an insert into the right subtree.");
+            insertQuery.setTimestamp(5, now);
+            insertQuery.addBatch();
+            addVotes("QUERY", queryId, now);
+
+            for (int r = 0; r < RESPONSES_PER_QUERY; r++) {
+                Object responseId = newId();
+                insertResponse.setObject(1, responseId);
+                insertResponse.setObject(2, queryId);
+                insertResponse.setString(3, nextUserId());
+                insertResponse.setString(4, "Recolor first, then rotate towards the side that is too deep.");
+                insertResponse.setTimestamp(5, now);
+                insertResponse.addBatch();
+                addVotes("RESPONSE", responseId, now);
+            }
+        }
+        // Parents before children, for the foreign key
+        insertQuery.executeBatch();
+        insertResponse.executeBatch();
+        insertVote.executeBatch();
+        connection.commit();
+    }
+
+    private void addVotes(String targetType, Object targetId, Timestamp now) throws SQLException {
+        for (int v = 0; v < VOTES_PER_TARGET; v++) {
+            insertVote.setObject(1, newId());
+            insertVote.setString(2, nextUserId());
+            insertVote.setString(3, targetType);
+            insertVote.setObject(4, targetId);
+            insertVote.setString(5, v == 0 ? "UPVOTE" : "DOWNVOTE");
+            insertVote.setTimestamp(6, now);
+            insertVote.addBatch();
+        }
+    }
+
+    private Object newId() {
+        switch (layout) {
+            case "UUID_V7":
+                return UuidV7.next();
+            case "VARCHAR_V7":
+                return UuidV7.next().toString();
+            default:
+                return UUID.randomUUID().toString();
+        }
+    }
+
+    private String nextUserId() {
+        nextUser = (nextUser + 1) % USERS;
+        return userIds[nextUser];
+    }
+
+    private void reportSizes() throws SQLException {
+        StringBuilder report = new StringBuilder("\n" + layout + " index sizes:\n");
+        try (PreparedStatement rows = connection.prepareStatement("SELECT reltuples::bigint FROM pg_class WHERE relname = ?");
+             PreparedStatement size = connection.prepareStatement("SELECT pg_relation_size(?::regclass)");
+             Statement analyze = connection.createStatement()) {
+            analyze.execute("ANALYZE");
+            connection.commit();
+            for (String table : TABLES) {
+                report.append(String.format("  %-10s %,d rows, %,d bytes%n", table, count(rows, table), bytes(size, table)));
+            }
+            for (String index : INDEXES) {
+                String table = index.startsWith("queries") ? "queries" : index.contains("response") ? "responses" : "votes";
+                long indexBytes = bytes(size, index);
+                report.append(String.format("  %-20s %,d bytes, %.1f bytes/row%n",
+                    index, indexBytes, (double) indexBytes / Math.max(1, count(rows, table))));
+            }
+        }
+        System.out.print(report);
+    }
+
+    private static long count(PreparedStatement rows, String table) throws SQLException {
+        rows.setString(1, table);
+        try (ResultSet rs = rows.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    private static long bytes(PreparedStatement size, String relation) throws SQLException {
+        size.setString(1, relation);
+        try (ResultSet rs = size.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.campusmate.benchmark;
+
+import com.campusmate.dto.response.ProjectMatchResponseDto;
+import com.campusmate.entity.Project;
+import com.campusmate.service.ProjectMatchingService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Skill-based project ranking behind GET /projects/recommendations
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ProjectMatchingBenchmark {
+
+    @Param({"1000", "20000"})
+    private int projectCount;
+
+    private ProjectMatchingService matchingService;
+    private List<Set<String>> queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        // The index is fed directly; the repository is only used by rebuildIndex()
+        matchingService = new ProjectMatchingService();
+        for (Project project : BenchmarkData.projects(projectCount)) {
+            matchingService.updateProject(ProjectMatchingService.IndexedProject.of(project));
+        }
+
+        Random random = new Random(BenchmarkData.SEED + 1);
+        queries = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            queries.add(BenchmarkData.randomSkills(random, 2 + random.nextInt(4)));
+        }
+    }
+
+    @Benchmark
+    public List<ProjectMatchResponseDto> recommend() {
+        Set<String> skills = queries.get(next++ & 63);
+        return matchingService.findMatchingProjects(skills, 10);
+    }
+}
@@ -0,0 +1,77 @@
+package com.campusmate.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop driver: a fixed number of virtual users each issue requests back to back.
+ * The warmup phase runs the same loop without recording, so JIT and pool warmup stay out of the numbers.
+ */
+class LoadDriver {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final LoadTestClient client;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final long seed;
+
+    LoadDriver(LoadTestClient client, int concurrency, Duration warmup, Duration duration, long seed) {
+        this.client = client;
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.seed = seed;
+    }
+
+    ScenarioResult run(Scenario scenario) throws Exception {
+        Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        AtomicLong errors = new AtomicLong();
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + warmup.toNanos();
+        long endNanos = measureFromNanos + duration.toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                Random random = new Random(seed + i);
+                futures.add(workers.submit(() -> {
+                    long now;
+                    while ((now = System.nanoTime()) < endNanos) {
+                        boolean failed;
+                        try {
+                            failed = scenario.step().execute(client, random) >= 400;
+                        } catch (Exception e) {
+                            failed = true;
+                        }
+                        if (now >= measureFromNanos) {
+                            recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - now), HIGHEST_TRACKABLE_MICROS));
+                            if (failed) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        Histogram latencies = recorder.getIntervalHistogram();
+        double seconds = (System.nanoTime() - measureFromNanos) / 1e9;
+        return new ScenarioResult(scenario.name(), concurrency, seconds, errors.get(), latencies);
+    }
+}
@@ -0,0 +1,107 @@
+package com.campusmate.loadtest;
+
+import com.campusmate.CoursemateApplication;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Boots CampusMate on an embedded Postgres with a GreenMail SMTP stub, seeds data and runs each
+ * scenario in turn, printing throughput and latency percentiles and writing them as JSON.
+ *
+ * System properties:
+ *   loadtest.scenarios    comma separated scenario names (default: all)
+ *   loadtest.concurrency  virtual users per scenario (default: 32)
+ *   loadtest.warmup       unrecorded warmup per scenario, e.g. 10s (default: 10s)
+ *   loadtest.duration     recorded time per scenario, e.g. 60s (default: 30s)
+ *   loadtest.report       JSON report path (default: target/loadtest-report.json)
+ */
+public class LoadTestRunner {
+
+    private static final long SEED = 42L;
+    private static final Duration MAIL_TIMEOUT = Duration.ofSeconds(30);
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+        Duration warmup = duration(System.getProperty("loadtest.warmup", "10s"));
+        Duration duration = duration(System.getProperty("loadtest.duration", "30s"));
+        String selection = System.getProperty("loadtest.scenarios", "all");
+        Path reportPath = Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json"));
+
+        GreenMail smtp = new GreenMail(new ServerSetup(0, "localhost", ServerSetup.PROTOCOL_SMTP));
+        // The credentials application-loadtest.yml logs in with
+        smtp.setUser("loadtest", "loadtest");
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            smtp.start();
+            ConfigurableApplicationContext app = new SpringApplicationBuilder(CoursemateApplication.class).run(
+                "--spring.profiles.active=loadtest",
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.mail.port=" + smtp.getSmtp().getPort(),
+                "--server.port=0");
+            try {
+                int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+                LoadTestClient client = new LoadTestClient("http://localhost:" + port);
+
+                System.out.println("Seeding data...");
+                SeedData seed = SeedData.create(app, client);
+
+                List<Scenario> scenarios = select(Scenario.all(seed), selection);
+                LoadDriver driver = new LoadDriver(client, concurrency, warmup, duration, SEED);
+                List<ScenarioResult> results = new ArrayList<>();
+                System.out.println(ScenarioResult.header());
+                for (Scenario scenario : scenarios) {
+                    ScenarioResult result = driver.run(scenario);
+                    results.add(result);
+                    System.out.println(result.row());
+                }
+
+                String json = results.stream().map(ScenarioResult::toJson)
+                    .collect(Collectors.joining(",\n  ", "[\n  ", "\n]\n"));
+                Files.createDirectories(reportPath.toAbsolutePath().getParent());
+                Files.writeString(reportPath, json);
+                System.out.println("Report written to " + reportPath.toAbsolutePath()
+                    + " (" + smtp.getReceivedMessages().length + " mails captured by the SMTP stub)");
+                // Seeding registers users, so verification mail must have gone through the job queue
+                if (!smtp.waitForIncomingEmail(MAIL_TIMEOUT.toMillis(), 1)) {
+                    throw new IllegalStateException("No mail reached the SMTP stub within " + MAIL_TIMEOUT
+                        + "; see target/loadtest-app.log for failed email jobs");
+                }
+            } finally {
+                app.close();
+            }
+        } finally {
+            smtp.stop();
+        }
+    }
+
+    private static List<Scenario> select(List<Scenario> scenarios, String selection) {
+        if ("all".equalsIgnoreCase(selection)) {
+            return scenarios;
+        }
+        Set<String> names = Arrays.stream(selection.split(",")).map(String::trim).collect(Collectors.toSet());
+        List<Scenario> selected = scenarios.stream().filter(s -> names.contains(s.name())).toList();
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("No scenario matches " + selection + "; known: "
+                + scenarios.stream().map(Scenario::name).collect(Collectors.joining(", ")));
+        }
+        return selected;
+    }
+
+    private static Duration duration(String value) {
+        return Duration.parse("PT" + value.trim().toUpperCase());
+    }
+}
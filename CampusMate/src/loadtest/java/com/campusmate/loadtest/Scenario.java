@@ -0,0 +1,60 @@
+package com.campusmate.loadtest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A named workload; each execution is one measured request
+ */
+record Scenario(String name, Step step) {
+
+    @FunctionalInterface
+    interface Step {
+        /**
+         * Issue one request and return its HTTP status
+         */
+        int execute(LoadTestClient client, Random random) throws Exception;
+    }
+
+    static List<Scenario> all(SeedData seed) {
+        AtomicInteger registrations = new AtomicInteger();
+        List<String> hotQueries = seed.queryIds.subList(0, Math.min(10, seed.queryIds.size()));
+
+        return List.of(
+            // Anonymous browsing of the three main feeds
+            new Scenario("browse-feed", (client, random) -> switch (random.nextInt(3)) {
+                case 0 -> client.get("/queries?page=0&size=20").statusCode();
+                case 1 -> client.get("/projects").statusCode();
+                default -> client.get("/courses").statusCode();
+            }),
+
+            // Everyone voting on the same handful of popular questions
+            new Scenario("vote-storm", (client, random) ->
+                client.post("/queries/" + hotQueries.get(random.nextInt(hotQueries.size())) + "/upvote", null).statusCode()),
+
+            // New accounts: BCrypt hashing plus a verification mail through the SMTP stub
+            new Scenario("registration-spike", (client, random) -> {
+                int n = registrations.incrementAndGet();
+                return client.post("/auth/register",
+                    SeedData.registration("spike-" + n + "-" + random.nextInt(1_000_000) + "@campusmate.test", "SP" + n)).statusCode();
+            }),
+
+            // Successful logins of verified accounts
+            new Scenario("login", (client, random) -> client.post("/auth/login", Map.of(
+                "email", seed.userEmails.get(random.nextInt(seed.userEmails.size())),
+                "password", SeedData.USER_PASSWORD)).statusCode()),
+
+            // List a course's materials, then download one
+            new Scenario("material-download", (client, random) -> {
+                String[] material = seed.materials.get(random.nextInt(seed.materials.size()));
+                int listStatus = client.get("/courses/" + material[0] + "/materials").statusCode();
+                if (listStatus >= 400) {
+                    return listStatus;
+                }
+                return client.get("/courses/" + material[0] + "/materials/" + material[1] + "/download").statusCode();
+            })
+        );
+    }
+}
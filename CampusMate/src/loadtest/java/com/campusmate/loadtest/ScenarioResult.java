@@ -0,0 +1,44 @@
+package com.campusmate.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Locale;
+
+/**
+ * Throughput and latency percentiles of one scenario run; latencies are recorded in microseconds
+ */
+record ScenarioResult(String name, int concurrency, double seconds, long errors, Histogram latencies) {
+
+    long requests() {
+        return latencies.getTotalCount();
+    }
+
+    double throughput() {
+        return requests() / seconds;
+    }
+
+    double percentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    static String header() {
+        return String.format(Locale.ROOT, "%-20s %6s %9s %7s %10s %9s %9s %9s %9s %9s",
+            "scenario", "vus", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    }
+
+    String row() {
+        return String.format(Locale.ROOT, "%-20s %6d %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f",
+            name, concurrency, requests(), errors, throughput(),
+            percentileMillis(50), percentileMillis(90), percentileMillis(99), percentileMillis(99.9),
+            latencies.getMaxValue() / 1000.0);
+    }
+
+    String toJson() {
+        return String.format(Locale.ROOT,
+            "{\"scenario\":\"%s\",\"concurrency\":%d,\"durationSeconds\":%.3f,\"requests\":%d,\"errors\":%d," +
+            "\"throughputPerSecond\":%.2f,\"latencyMillis\":{\"p50\":%.3f,\"p90\":%.3f,\"p99\":%.3f,\"p999\":%.3f,\"max\":%.3f}}",
+            name, concurrency, seconds, requests(), errors, throughput(),
+            percentileMillis(50), percentileMillis(90), percentileMillis(99), percentileMillis(99.9),
+            latencies.getMaxValue() / 1000.0);
+    }
+}
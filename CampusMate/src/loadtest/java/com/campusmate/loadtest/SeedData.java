@@ -0,0 +1,102 @@
+package com.campusmate.loadtest;
+
+import com.campusmate.dto.request.CreateCourseRequest;
+import com.campusmate.entity.Course;
+import com.campusmate.entity.User;
+import com.campusmate.enums.UserRole;
+import com.campusmate.repository.UserRepository;
+import com.campusmate.service.CourseService;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data the scenarios run against, created through the public API wherever the API allows it
+ */
+class SeedData {
+
+    static final String USER_PASSWORD = "loadtest-password";
+
+    private static final int COURSES = 5;
+    private static final int MATERIALS_PER_COURSE = 4;
+    private static final int QUERIES = 200;
+    private static final int USERS = 50;
+
+    final List<String> courseIds = new ArrayList<>();
+    final List<String[]> materials = new ArrayList<>(); // {courseId, materialId}
+    final List<String> queryIds = new ArrayList<>();
+    final List<String> userEmails = new ArrayList<>();
+
+    static SeedData create(ApplicationContext context, LoadTestClient client) throws Exception {
+        SeedData seed = new SeedData();
+
+        // Materials are attributed to an admin; on an empty database the controller would
+        // otherwise create one without a password, which users.password rejects
+        User admin = new User("loadtest-admin@campusmate.test",
+            context.getBean(PasswordEncoder.class).encode(USER_PASSWORD), "Load", "Admin", UserRole.ADMIN);
+        admin.setIsVerified(true);
+        context.getBean(UserRepository.class).save(admin);
+
+        // Course creation is admin-only over HTTP, so go through the service directly
+        CourseService courseService = context.getBean(CourseService.class);
+        String material = "Lecture notes. ".repeat(2_000);
+        for (int c = 0; c < COURSES; c++) {
+            CreateCourseRequest request = new CreateCourseRequest();
+            request.setCode("LT" + (100 + c));
+            request.setTitle("Load Test Course " + c);
+            request.setDescription("Seeded for load testing");
+            request.setProfessorName("Load Professor" + c);
+            request.setSubjectName("Load Testing");
+            request.setSemester("Fall");
+            request.setYear("2025");
+            request.setCredits(3);
+            request.setMaxStudents(500);
+            request.setDifficultyLevel("BEGINNER");
+            Course course = courseService.createCourseFromRequest(request);
+            seed.courseIds.add(course.getId());
+
+            for (int m = 0; m < MATERIALS_PER_COURSE; m++) {
+                JsonNode created = client.data(client.post("/courses/" + course.getId() + "/materials", Map.of(
+                    "title", "Lecture " + m,
+                    "description", "Seeded lecture notes",
+                    "type", "LECTURE",
+                    "fileName", "lecture-" + m + ".txt",
+                    "content", material)));
+                seed.materials.add(new String[] {course.getId(), created.path("id").asText()});
+            }
+        }
+
+        for (int q = 0; q < QUERIES; q++) {
+            JsonNode created = client.data(client.post("/queries", Map.of(
+                "title", "Load test question " + q,
+                "content", "How does topic " + q + " relate to the lecture?",
+                "category", "General")));
+            seed.queryIds.add(created.path("id").asText());
+        }
+
+        for (int u = 0; u < USERS; u++) {
+            String email = "loadtest-user-" + u + "@campusmate.test";
+            client.data(client.post("/auth/register", registration(email, "LTU" + u)));
+            seed.userEmails.add(email);
+        }
+        // Skip the mailbox round trip: login only needs the flag set
+        context.getBean(JdbcTemplate.class).update("UPDATE users SET is_verified = TRUE WHERE email LIKE 'loadtest-%'");
+
+        return seed;
+    }
+
+    static Map<String, Object> registration(String email, String studentId) {
+        return Map.of(
+            "firstName", "Load",
+            "lastName", "Tester",
+            "email", email,
+            "password", USER_PASSWORD,
+            "studentId", studentId,
+            "department", "Computer Science");
+    }
+}
@@ -0,0 +1,121 @@
+package com.campusmate.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Grows and shrinks the Hikari pools between their configured size and a ceiling, following demand.
+ *
+ * Every sample-interval it notes, per pool, whether any thread was waiting for a connection and
+ * the peak number of connections in use. At each adjustment a pool that had waiters grows by
+ * grow-step, up to max-size; a pool whose peak use stayed under half its size for shrink-after
+ * gives back one connection, never going below the size it was configured with. Hikari applies
+ * a lower maximum by retiring idle connections, so shrinking never interrupts work.
+ *
+ * max-size times the number of nodes (plus replica pools on replicas) must fit Postgres'
+ * max_connections; growing the pool only helps while the database has idle capacity.
+ */
+@Component
+@ConditionalOnProperty(name = "app.datasource.adaptive.enabled", havingValue = "true")
+public class AdaptivePoolSizer {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+
+    private final List<Pool> pools = new ArrayList<>();
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.datasource.adaptive.grow-step:2}")
+    private int growStep;
+
+    @Value("${app.datasource.adaptive.shrink-after:5m}")
+    private Duration shrinkAfter;
+
+    public AdaptivePoolSizer(@Qualifier("primaryDataSource") HikariDataSource primary,
+                             ReadWriteRoutingDataSource routingDataSource,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.datasource.adaptive.max-size:30}") int maxSize) {
+        this.meterRegistry = meterRegistry;
+        pools.add(new Pool(primary, maxSize));
+        for (Map.Entry<String, DataSource> replica : routingDataSource.getReplicas().entrySet()) {
+            if (replica.getValue() instanceof HikariDataSource) {
+                pools.add(new Pool((HikariDataSource) replica.getValue(), maxSize));
+            }
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.datasource.adaptive.sample-interval:1s}")
+    public void sample() {
+        for (Pool pool : pools) {
+            HikariPoolMXBean stats = pool.dataSource.getHikariPoolMXBean();
+            if (stats == null) {
+                continue; // Pool not started yet
+            }
+            if (stats.getThreadsAwaitingConnection() > 0) {
+                pool.sawWaiters.set(true);
+            }
+            pool.peakActive.accumulateAndGet(stats.getActiveConnections(), Math::max);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.datasource.adaptive.adjust-interval:30s}")
+    public void adjust() {
+        long now = System.currentTimeMillis();
+        for (Pool pool : pools) {
+            boolean sawWaiters = pool.sawWaiters.getAndSet(false);
+            int peakActive = pool.peakActive.getAndSet(0);
+            int size = pool.dataSource.getHikariConfigMXBean().getMaximumPoolSize();
+
+            if (sawWaiters && size < pool.ceiling) {
+                resize(pool, size, Math.min(pool.ceiling, size + growStep), "grow");
+                pool.lastBusy = now;
+            } else if (sawWaiters || peakActive * 2 >= size) {
+                pool.lastBusy = now;
+            } else if (size > pool.floor && now - pool.lastBusy >= shrinkAfter.toMillis()) {
+                resize(pool, size, size - 1, "shrink");
+                pool.lastBusy = now; // One connection per shrink-after, so a lull doesn't empty the pool
+            }
+        }
+    }
+
+    private void resize(Pool pool, int from, int to, String direction) {
+        pool.dataSource.getHikariConfigMXBean().setMaximumPoolSize(to);
+        log.info("Pool {} resized from {} to {} connections", pool.dataSource.getPoolName(), from, to);
+        Counter.builder("campusmate.datasource.pool.resizes")
+            .description("Adaptive connection pool size changes")
+            .tags("pool", pool.dataSource.getPoolName(), "direction", direction)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private static final class Pool {
+        final HikariDataSource dataSource;
+        final int floor;
+        final int ceiling;
+        final AtomicBoolean sawWaiters = new AtomicBoolean();
+        final AtomicInteger peakActive = new AtomicInteger();
+        volatile long lastBusy = System.currentTimeMillis();
+
+        Pool(HikariDataSource dataSource, int maxSize) {
+            this.dataSource = dataSource;
+            this.floor = dataSource.getMaximumPoolSize();
+            this.ceiling = Math.max(floor, maxSize);
+        }
+    }
+}
@@ -1,20 +1,38 @@
 package com.campusmate.config;
 
+import com.campusmate.service.EmailVerificationService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
  * Cache configuration for CampusMate
+ *
+ * Caffeine caches record stats so hits and misses show up as cache.gets in /actuator/prometheus.
  */
-// @Configuration
-// @EnableCaching
+@Configuration
+@EnableCaching
 public class CacheConfig {
 
     @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager("queries", "users", "courses", "subjects", "projects");
+    public CacheManager cacheManager(@Value("${spring.cache.caffeine.spec:maximumSize=500,expireAfterWrite=600s}") String spec,
+                                     @Value("${app.email-verification.status-cache-ttl:15s}") Duration verificationStatusTtl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager("queries", "users", "courses", "subjects", "projects",
+            "joinRequestCounts");
+        cacheManager.setCaffeine(Caffeine.from(spec).recordStats());
+        // Polled by clients waiting for the verification link; a short TTL bounds staleness on nodes
+        // that did not process the verification and so never saw the eviction
+        cacheManager.registerCustomCache(EmailVerificationService.VERIFICATION_STATUS_CACHE, Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(verificationStatusTtl)
+            .recordStats()
+            .build());
+        return cacheManager;
     }
 }
@@ -0,0 +1,85 @@
+package com.campusmate.config;
+
+import com.campusmate.entity.ScheduledTaskRun;
+import com.campusmate.repository.ScheduledTaskRunRepository;
+import com.campusmate.service.ClusterTaskRunner;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * /actuator/clustertasks: last run (on any node) and next trigger time (on this node) of each
+ * cluster-wide scheduled task, and /actuator/clustertasks/{name} for a task's recent history.
+ */
+@Component
+@Endpoint(id = "clustertasks")
+public class ClusterTasksEndpoint {
+
+    private final ClusterTaskRunner clusterTaskRunner;
+    private final ScheduledTaskRunRepository runRepository;
+    private final ObjectProvider<ScheduledTaskHolder> scheduledTaskHolders;
+
+    public ClusterTasksEndpoint(ClusterTaskRunner clusterTaskRunner, ScheduledTaskRunRepository runRepository,
+                                ObjectProvider<ScheduledTaskHolder> scheduledTaskHolders) {
+        this.clusterTaskRunner = clusterTaskRunner;
+        this.runRepository = runRepository;
+        this.scheduledTaskHolders = scheduledTaskHolders;
+    }
+
+    @ReadOperation
+    public Map<String, Object> tasks() {
+        Map<String, ScheduledTaskRun> lastRuns = new TreeMap<>();
+        for (ScheduledTaskRun run : runRepository.findLatestRuns()) {
+            lastRuns.put(run.getTaskName(), run);
+        }
+        Map<String, String> taskMethods = clusterTaskRunner.getTaskMethods();
+
+        Map<String, Map<String, Object>> tasks = new TreeMap<>();
+        for (String name : lastRuns.keySet()) {
+            tasks.put(name, describe(name, lastRuns.get(name), taskMethods.get(name)));
+        }
+        taskMethods.forEach((name, method) -> tasks.putIfAbsent(name, describe(name, null, method)));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("node", clusterTaskRunner.getNode());
+        result.put("tasks", tasks.values());
+        return result;
+    }
+
+    @ReadOperation
+    public List<ScheduledTaskRun> history(@Selector String name) {
+        return runRepository.findTop20ByTaskNameOrderByStartedAtDesc(name);
+    }
+
+    private Map<String, Object> describe(String name, ScheduledTaskRun lastRun, String method) {
+        Map<String, Object> task = new LinkedHashMap<>();
+        task.put("name", name);
+        task.put("method", method);
+        task.put("nextRun", method != null ? nextExecution(method) : null);
+        task.put("lastRun", lastRun);
+        return task;
+    }
+
+    private Instant nextExecution(String method) {
+        List<ScheduledTask> scheduled = new ArrayList<>();
+        scheduledTaskHolders.orderedStream().forEach(holder -> scheduled.addAll(holder.getScheduledTasks()));
+        for (ScheduledTask task : scheduled) {
+            // ScheduledMethodRunnable describes itself as declaringClass.methodName
+            if (task.getTask().getRunnable().toString().equals(method)) {
+                return task.nextExecution();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.campusmate.config;
+
+import com.campusmate.metrics.SqlStatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics wiring that Spring Boot does not provide out of the box.
+ *
+ * Endpoint timers (http.server.requests), repository timers (spring.data.repository.invocations),
+ * Hibernate statistics and cache hit/miss counters are auto-configured; their histograms are
+ * tuned under management.metrics in application.yml.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+}
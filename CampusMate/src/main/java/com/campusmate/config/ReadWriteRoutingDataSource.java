@@ -0,0 +1,97 @@
+package com.campusmate.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections for @Transactional(readOnly = true) work to a replica and everything else
+ * to the primary.
+ *
+ * Replicas are used round-robin, skipping any that ReplicaLagMonitor has marked unavailable
+ * (down or lagging); with none left, reads fall back to the primary. Read-only work is also kept
+ * on the primary for a request pinned by ReadYourWritesContext.
+ *
+ * Must sit behind a LazyConnectionDataSourceProxy: JpaTransactionManager asks for a
+ * connection before it publishes the read-only flag, so the real connection has to be
+ * fetched lazily at the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final Set<String> availableReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        // Until the first lag check, trust every replica
+        this.availableReplicas.addAll(replicaKeys);
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWritesContext.markWrite();
+            }
+            return PRIMARY;
+        }
+        if (replicaKeys.isEmpty() || ReadYourWritesContext.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+
+        int size = replicaKeys.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (availableReplicas.contains(key)) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicaAvailable(String key, boolean available) {
+        if (available) {
+            availableReplicas.add(key);
+        } else {
+            availableReplicas.remove(key);
+        }
+    }
+
+    public boolean isReplicaAvailable(String key) {
+        return availableReplicas.contains(key);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        // The replica pools are owned here; the primary is a bean and closed by the container
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
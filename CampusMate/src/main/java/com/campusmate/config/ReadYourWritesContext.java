@@ -0,0 +1,48 @@
+package com.campusmate.config;
+
+/**
+ * Per-request routing state for read-your-writes consistency.
+ *
+ * A request is pinned to the primary when its client wrote recently (ReadYourWritesInterceptor)
+ * or as soon as it opens a read-write transaction itself; ReadWriteRoutingDataSource records that
+ * so the interceptor can make the client sticky for the following requests.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<State> STATE = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {}
+
+    static void begin(boolean pinnedToPrimary) {
+        State state = new State();
+        state.pinnedToPrimary = pinnedToPrimary;
+        STATE.set(state);
+    }
+
+    /**
+     * End the request and report whether it wrote to the primary
+     */
+    static boolean end() {
+        State state = STATE.get();
+        STATE.remove();
+        return state != null && state.wrote;
+    }
+
+    static boolean isPinnedToPrimary() {
+        State state = STATE.get();
+        return state != null && state.pinnedToPrimary;
+    }
+
+    static void markWrite() {
+        State state = STATE.get();
+        if (state != null) {
+            state.wrote = true;
+            state.pinnedToPrimary = true;
+        }
+    }
+
+    private static final class State {
+        boolean pinnedToPrimary;
+        boolean wrote;
+    }
+}
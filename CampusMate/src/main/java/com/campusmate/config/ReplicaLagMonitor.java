@@ -0,0 +1,81 @@
+package com.campusmate.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures replication lag on every replica and takes replicas out of read routing while they
+ * are unreachable or further behind than app.datasource.replica.max-lag.
+ */
+@Component
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // Zero when the replica has replayed everything it received, even if the primary has been idle
+    private static final String LAG_QUERY =
+        "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+        "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final Map<String, JdbcTemplate> replicas = new ConcurrentHashMap<>();
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+
+    @Value("${app.datasource.replica.max-lag:5s}")
+    private Duration maxLag;
+
+    public ReplicaLagMonitor(ReadWriteRoutingDataSource routingDataSource, MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        for (Map.Entry<String, DataSource> replica : routingDataSource.getReplicas().entrySet()) {
+            String key = replica.getKey();
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(replica.getValue());
+            jdbcTemplate.setQueryTimeout(2);
+            replicas.put(key, jdbcTemplate);
+            lagSeconds.put(key, 0.0);
+
+            Gauge.builder("campusmate.datasource.replica.lag", lagSeconds, lags -> lags.getOrDefault(key, Double.NaN))
+                .description("Replication lag of a read replica")
+                .baseUnit("seconds")
+                .tag("replica", key)
+                .register(meterRegistry);
+            Gauge.builder("campusmate.datasource.replica.available", routingDataSource, ds -> ds.isReplicaAvailable(key) ? 1 : 0)
+                .description("Whether a read replica currently receives read-only traffic")
+                .tag("replica", key)
+                .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:5s}")
+    public void checkReplicas() {
+        replicas.forEach((key, jdbcTemplate) -> {
+            boolean available;
+            try {
+                Double lag = jdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+                double seconds = lag != null ? lag : 0.0;
+                lagSeconds.put(key, seconds);
+                available = seconds * 1000 <= maxLag.toMillis();
+            } catch (Exception e) {
+                lagSeconds.put(key, Double.NaN);
+                log.warn("Replica {} lag check failed: {}", key, e.getMessage());
+                available = false;
+            }
+
+            if (available != routingDataSource.isReplicaAvailable(key)) {
+                log.warn("Replica {} {} read routing (lag {}s, max {})", key,
+                    available ? "rejoined" : "removed from", lagSeconds.get(key), maxLag);
+            }
+            routingDataSource.setReplicaAvailable(key, available);
+        });
+    }
+}
@@ -3,6 +3,7 @@ package com.campusmate.config;
 import com.campusmate.security.JwtAuthenticationEntryPoint;
 import com.campusmate.security.JwtAuthenticationFilter;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -40,6 +41,9 @@ public class SecurityConfig {
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final UserDetailsService userDetailsService;
+
+    @Value("${app.security.bcrypt.strength:10}")
+    private int bcryptStrength;
     
     public SecurityConfig(JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint,
                          JwtAuthenticationFilter jwtAuthenticationFilter,
@@ -59,7 +63,9 @@ public class SecurityConfig {
                 .requestMatchers("/api/v1/auth/**").permitAll()
                 .requestMatchers("/api/v1/public/**").permitAll()
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
-                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                // Metrics and clustertasks expose node names, task errors and internals
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers("/queries/**").permitAll()  // Allow all query endpoints
                 .requestMatchers("/projects/**").permitAll()  // Allow all project endpoints
                 .requestMatchers("/admin/**").permitAll()  // Allow admin endpoints
@@ -123,6 +129,6 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 }
@@ -1,15 +1,19 @@
 package com.campusmate.controller;
 
 import com.campusmate.dto.response.ApiResponse;
+import com.campusmate.dto.response.DeadJobResponseDto;
 import com.campusmate.entity.User;
 import com.campusmate.enums.UserRole;
 import com.campusmate.repository.UserRepository;
+import com.campusmate.service.JobQueueService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -23,6 +27,44 @@ public class AdminController {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JobQueueService jobQueueService;
+
+    /**
+     * Dead-lettered background jobs, newest first
+     */
+    @GetMapping("/jobs/dead")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<DeadJobResponseDto>>> getDeadJobs(@RequestParam(defaultValue = "50") int limit) {
+        try {
+            List<DeadJobResponseDto> jobs = jobQueueService.getDeadJobs(Math.min(Math.max(limit, 1), 500)).stream()
+                .map(DeadJobResponseDto::new)
+                .collect(java.util.stream.Collectors.toList());
+            return ResponseEntity.ok(ApiResponse.success("Dead jobs retrieved", jobs));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to get dead jobs: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Put a dead-lettered job back in its queue
+     */
+    @PostMapping("/jobs/{jobId}/retry")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<String>> retryJob(@PathVariable String jobId) {
+        try {
+            if (!jobQueueService.retryDead(jobId)) {
+                return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("No dead job with id " + jobId));
+            }
+            return ResponseEntity.ok(ApiResponse.success("Job queued for retry", jobId));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to retry job: " + e.getMessage()));
+        }
+    }
+
     @PostMapping("/create-admin")
     public ResponseEntity<ApiResponse<User>> createAdmin() {
         try {
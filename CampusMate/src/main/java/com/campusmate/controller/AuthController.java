@@ -1,6 +1,7 @@
 package com.campusmate.controller;
 
 import com.campusmate.dto.request.LoginRequest;
+import com.campusmate.dto.request.RefreshTokenRequest;
 import com.campusmate.dto.request.RegisterRequest;
 import com.campusmate.dto.response.ApiResponse;
 import com.campusmate.dto.response.AuthResponse;
@@ -8,18 +9,25 @@ import com.campusmate.entity.User;
 import com.campusmate.service.UserService;
 import com.campusmate.service.JwtService;
 import com.campusmate.service.EmailVerificationService;
+import com.campusmate.service.PasswordHashingService;
+import com.campusmate.service.RefreshTokenService;
+import com.campusmate.security.LoginRateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -36,7 +44,13 @@ public class AuthController {
     private UserService userService;
     
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
     
     @Autowired
     private JwtService jwtService;
@@ -45,9 +59,18 @@ public class AuthController {
     private EmailVerificationService emailVerificationService;
 
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
         log.info("Login attempt for user: {}", request.getEmail());
         
+        // Throttle before any hashing, so bursts cost a map lookup rather than a BCrypt round
+        Duration retryAfter = loginRateLimiter.tryAcquire(httpRequest.getRemoteAddr(), request.getEmail());
+        if (!retryAfter.isZero()) {
+            log.warn("Login rate limited for user: {} from {}", request.getEmail(), httpRequest.getRemoteAddr());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000)))
+                    .body(ApiResponse.error("Too many login attempts, please try again later"));
+        }
+        
         try {
             // Find user by email
             Optional<User> userOpt = userService.findByEmail(request.getEmail());
@@ -60,7 +83,7 @@ public class AuthController {
             User user = userOpt.get();
             
             // Verify password
-            if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+            if (!passwordHashingService.verify(request.getPassword(), user.getPassword())) {
                 log.warn("Login failed: Invalid password for user: {}", request.getEmail());
                 return ResponseEntity.badRequest()
                         .body(ApiResponse.error("Invalid email or password"));
@@ -80,9 +103,20 @@ public class AuthController {
                         .body(ApiResponse.error("Please verify your email before logging in. Check your inbox for the verification link."));
             }
             
-            // Generate real JWT tokens
-            String accessToken = jwtService.generateToken(user);
-            String refreshToken = jwtService.generateRefreshToken(user);
+            // Upgrade hashes stored with an old cost factor while we still have the raw password,
+            // and only for accounts allowed in, so rejected logins never pay for a second hash
+            if (passwordHashingService.needsRehash(user.getPassword())) {
+                try {
+                    userService.updatePasswordHash(user.getId(), passwordHashingService.hash(request.getPassword()));
+                } catch (Exception e) {
+                    log.warn("Failed to re-hash password for user: {}", user.getEmail(), e);
+                }
+            }
+            
+            // Generate real JWT tokens, starting a new refresh-token family
+            RefreshTokenService.TokenPair tokens = refreshTokenService.startSession(user);
+            String accessToken = tokens.getAccessToken();
+            String refreshToken = tokens.getRefreshToken();
             
             // Create auth response with real tokens and user info
             AuthResponse.UserInfo userInfo = new AuthResponse.UserInfo(
@@ -107,6 +141,11 @@ public class AuthController {
             log.info("User logged in successfully: {}", user.getEmail());
             return ResponseEntity.ok(ApiResponse.success("Login successful", authResponse));
             
+        } catch (RejectedExecutionException e) {
+            log.warn("Login rejected for user: {}, password hashing is saturated", request.getEmail());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(ApiResponse.error("Login service is busy, please try again shortly"));
         } catch (Exception e) {
             log.error("Login failed for user: {}", request.getEmail(), e);
             return ResponseEntity.badRequest()
@@ -135,9 +174,10 @@ public class AuthController {
             // Register the user
             User registeredUser = userService.registerUser(request);
             
-            // Generate real JWT tokens
-            String accessToken = jwtService.generateToken(registeredUser);
-            String refreshToken = jwtService.generateRefreshToken(registeredUser);
+            // Generate real JWT tokens, starting a new refresh-token family
+            RefreshTokenService.TokenPair tokens = refreshTokenService.startSession(registeredUser);
+            String accessToken = tokens.getAccessToken();
+            String refreshToken = tokens.getRefreshToken();
             
             // Create auth response with real tokens and user info
             AuthResponse.UserInfo userInfo = new AuthResponse.UserInfo(
@@ -169,6 +209,57 @@ public class AuthController {
         }
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<AuthResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        try {
+            Optional<RefreshTokenService.TokenPair> rotated = refreshTokenService.rotate(request.getRefreshToken());
+            if (rotated.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(ApiResponse.error("Invalid or expired refresh token"));
+            }
+            
+            RefreshTokenService.TokenPair tokens = rotated.get();
+            User user = tokens.getUser();
+            AuthResponse.UserInfo userInfo = new AuthResponse.UserInfo(
+                    user.getId(),
+                    user.getEmail(),
+                    user.getFirstName(),
+                    user.getLastName(),
+                    user.getRole(),
+                    user.getStudentId(),
+                    user.getDepartment(),
+                    null // avatarUrl
+            );
+            
+            AuthResponse authResponse = new AuthResponse(
+                    tokens.getAccessToken(),
+                    tokens.getRefreshToken(),
+                    "Bearer",
+                    jwtService.getAccessTokenExpiration(),
+                    userInfo
+            );
+            return ResponseEntity.ok(ApiResponse.success("Token refreshed", authResponse));
+            
+        } catch (Exception e) {
+            log.error("Token refresh failed", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Token refresh failed: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<String>> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        try {
+            // Unknown tokens are treated as already logged out
+            refreshTokenService.revoke(request.getRefreshToken());
+            return ResponseEntity.ok(ApiResponse.success("Logged out successfully"));
+        } catch (Exception e) {
+            log.error("Logout failed", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Logout failed: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/health")
     public ResponseEntity<ApiResponse<String>> health() {
         return ResponseEntity.ok(ApiResponse.success("Auth service is running"));
@@ -248,15 +339,13 @@ public class AuthController {
         log.info("Checking verification status for: {}", email);
         
         try {
-            Optional<User> userOpt = userService.findByEmail(email);
-            if (userOpt.isEmpty()) {
+            // Served from cache; this endpoint is polled while the user waits for the email
+            Boolean isVerified = emailVerificationService.getVerificationStatus(email);
+            if (isVerified == null) {
                 return ResponseEntity.badRequest()
                         .body(ApiResponse.error("User not found with this email"));
             }
             
-            User user = userOpt.get();
-            boolean isVerified = user.getIsVerified();
-            
             log.info("Verification status for {}: {}", email, isVerified);
             return ResponseEntity.ok(ApiResponse.success("Verification status retrieved", isVerified));
             
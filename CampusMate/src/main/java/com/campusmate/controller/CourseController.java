@@ -2,9 +2,11 @@ package com.campusmate.controller;
 
 import com.campusmate.dto.response.ApiResponse;
 import com.campusmate.dto.request.CreateCourseRequest;
+import com.campusmate.dto.response.CourseCatalogResponseDto;
 import com.campusmate.entity.Course;
 import com.campusmate.entity.User;
 import com.campusmate.enums.UserRole;
+import com.campusmate.service.CourseCatalogService;
 import com.campusmate.service.CourseService;
 import com.campusmate.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,9 +26,14 @@ public class CourseController {
     @Autowired
     private CourseService courseService;
     
+    @Autowired
+    private CourseCatalogService courseCatalogService;
+    
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Course>>> getAllCourses() {
-        List<Course> courses = courseService.getAllCourses();
+    public ResponseEntity<ApiResponse<List<CourseCatalogResponseDto>>> getAllCourses() {
+        List<CourseCatalogResponseDto> courses = courseCatalogService.getCatalog().stream()
+            .map(CourseCatalogResponseDto::new)
+            .collect(java.util.stream.Collectors.toList());
         return ResponseEntity.ok(ApiResponse.success("Courses retrieved successfully", courses));
     }
     
@@ -2,13 +2,26 @@ package com.campusmate.controller;
 
 import com.campusmate.dto.response.ApiResponse;
 import com.campusmate.dto.CourseMaterialSummaryDTO;
+import com.campusmate.dto.response.MaterialPreviewResponseDto;
+import com.campusmate.dto.response.MaterialUploadResponseDto;
 import com.campusmate.entity.CourseMaterial;
+import com.campusmate.entity.CourseMaterialContent;
 import com.campusmate.entity.Course;
+import com.campusmate.entity.MaterialUpload;
 import com.campusmate.entity.User;
 import com.campusmate.enums.MaterialType;
+import com.campusmate.repository.CourseMaterialContentRepository.StoredContent;
 import com.campusmate.repository.CourseMaterialRepository;
 import com.campusmate.repository.CourseRepository;
+import com.campusmate.repository.MaterialPreviewRepository;
+import com.campusmate.repository.MaterialPreviewRepository.PreviewSummary;
+import com.campusmate.repository.MaterialRenditionRepository;
+import com.campusmate.repository.MaterialRenditionRepository.RenditionContent;
 import com.campusmate.repository.UserRepository;
+import com.campusmate.service.ChunkedUploadService;
+import com.campusmate.service.CourseCatalogService;
+import com.campusmate.service.CourseMaterialArchiveService;
+import com.campusmate.service.CourseMaterialStorageService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,8 +32,11 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -44,6 +60,24 @@ public class CourseMaterialController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CourseCatalogService courseCatalogService;
+
+    @Autowired
+    private CourseMaterialStorageService storageService;
+
+    @Autowired
+    private CourseMaterialArchiveService archiveService;
+
+    @Autowired
+    private ChunkedUploadService uploadService;
+
+    @Autowired
+    private MaterialPreviewRepository previewRepository;
+
+    @Autowired
+    private MaterialRenditionRepository renditionRepository;
+
     /**
      * Get all materials for a course
      */
@@ -126,6 +160,7 @@ public class CourseMaterialController {
             material.setIsPublic(true);
             material.setCreatedAt(LocalDateTime.now());
             material.setUpdatedAt(LocalDateTime.now());
+            byte[] fileData = null;
 
             if (file != null) {
                 // Validate file type
@@ -139,7 +174,7 @@ public class CourseMaterialController {
                 try {
                     material.setFileName(fileName);
                     material.setFileSize(file.getSize());
-                    material.setFileData(file.getBytes());
+                    fileData = file.getBytes();
                     // For files, set fileUrl to indicate it's a binary file
                     material.setFileUrl("binary://" + fileName);
                 } catch (IOException e) {
@@ -150,42 +185,21 @@ public class CourseMaterialController {
                 // Handle text-only material
                 material.setFileName(fileName != null ? fileName : title + ".txt");
                 material.setFileSize((long) (content != null ? content.length() : 0));
-                // For text content, we can store it as base64 in fileUrl
+                // Text content goes to the content table, compressed; fileUrl just marks it as text
                 if (content != null) {
-                    material.setFileUrl("data:text/plain;base64," + java.util.Base64.getEncoder().encodeToString(content.getBytes()));
+                    material.setFileUrl("text://" + material.getFileName());
                 } else {
                     // Set a default fileUrl for text-only materials without content
                     material.setFileUrl("text://" + title + ".txt");
                 }
             }
 
-            // Find or create an admin user for uploadedBy
-            Optional<User> adminOpt = userRepository.findByEmail("orazovgeldymurad@gmail.com");
-            if (adminOpt.isEmpty()) {
-                // Try to find any admin user
-                List<User> adminUsers = userRepository.findAll().stream()
-                    .filter(u -> u.getRole() != null && u.getRole().toString().equals("ADMIN"))
-                    .toList();
-                if (!adminUsers.isEmpty()) {
-                    material.setUploadedBy(adminUsers.get(0));
-                } else {
-                    // Create a minimal admin user that gets saved to DB
-                    User adminUser = new User();
-                    adminUser.setEmail("admin@system.com");
-                    adminUser.setFirstName("Admin");
-                    adminUser.setLastName("System");
-                    adminUser.setRole(com.campusmate.enums.UserRole.ADMIN);
-                    adminUser.setIsActive(true);
-                    adminUser.setCreatedAt(LocalDateTime.now());
-                    adminUser.setUpdatedAt(LocalDateTime.now());
-                    User savedAdmin = userRepository.save(adminUser);
-                    material.setUploadedBy(savedAdmin);
-                }
-            } else {
-                material.setUploadedBy(adminOpt.get());
-            }
+            material.setUploadedBy(resolveUploader());
 
-            CourseMaterial savedMaterial = materialRepository.save(material);
+            CourseMaterial savedMaterial = file == null && content != null
+                ? storageService.saveText(material, content)
+                : storageService.save(material, fileData);
+            courseCatalogService.refreshCourse(courseId);
             log.info("Material {} added to course {} successfully", savedMaterial.getId(), courseId);
 
             return ResponseEntity.ok(ApiResponse.success("Material added successfully", savedMaterial));
@@ -197,12 +211,172 @@ public class CourseMaterialController {
     }
 
     /**
-     * Download/view a material file
+     * Find or create an admin user for uploadedBy
+     */
+    private User resolveUploader() {
+        Optional<User> adminOpt = userRepository.findByEmail("orazovgeldymurad@gmail.com");
+        if (adminOpt.isEmpty()) {
+            // Try to find any admin user
+            List<User> adminUsers = userRepository.findAll().stream()
+                .filter(u -> u.getRole() != null && u.getRole().toString().equals("ADMIN"))
+                .toList();
+            if (!adminUsers.isEmpty()) {
+                return adminUsers.get(0);
+            } else {
+                // Create a minimal admin user that gets saved to DB
+                User adminUser = new User();
+                adminUser.setEmail("admin@system.com");
+                adminUser.setFirstName("Admin");
+                adminUser.setLastName("System");
+                adminUser.setRole(com.campusmate.enums.UserRole.ADMIN);
+                adminUser.setIsActive(true);
+                adminUser.setCreatedAt(LocalDateTime.now());
+                adminUser.setUpdatedAt(LocalDateTime.now());
+                return userRepository.save(adminUser);
+            }
+        } else {
+            return adminOpt.get();
+        }
+    }
+
+    /**
+     * Start a resumable upload for a large material (e.g. a lecture video)
+     */
+    @PostMapping(value = "/{courseId}/materials/uploads", consumes = "application/json")
+    public ResponseEntity<ApiResponse<MaterialUploadResponseDto>> startUpload(
+            @PathVariable String courseId,
+            @RequestBody UploadRequest request) {
+        try {
+            Optional<Course> courseOpt = courseRepository.findById(courseId);
+            if (courseOpt.isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Course not found"));
+            }
+            if (request.getFileName() == null || !isValidUploadType(request.getFileName())) {
+                return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("File type not supported for upload: " + request.getFileName()));
+            }
+            if (request.getFileSize() == null) {
+                return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("File size is required"));
+            }
+
+            MaterialUpload upload = uploadService.startUpload(courseOpt.get(), resolveUploader(), request.getTitle(),
+                request.getDescription(), MaterialType.valueOf(request.getType().toUpperCase()),
+                request.getFileName(), request.getFileSize());
+            return ResponseEntity.ok(ApiResponse.success("Upload started", toUploadDto(upload, List.of())));
+        } catch (Exception e) {
+            log.error("Error starting upload for course {}: {}", courseId, e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to start upload: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Upload one chunk as the raw request body, with an Upload-Checksum: sha256 <base64> header.
+     * Re-sending a chunk replaces it, so retries are safe.
+     */
+    @PutMapping(value = "/{courseId}/materials/uploads/{uploadId}/chunks/{index}", consumes = "application/octet-stream")
+    public ResponseEntity<ApiResponse<String>> uploadChunk(
+            @PathVariable String courseId,
+            @PathVariable String uploadId,
+            @PathVariable int index,
+            @RequestHeader(value = "Upload-Checksum", required = false) String checksumHeader,
+            HttpServletRequest request) {
+        try {
+            String sha256Hex = parseSha256Checksum(checksumHeader);
+            if (sha256Hex == null) {
+                return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Upload-Checksum header with a sha256 checksum is required"));
+            }
+
+            // Read straight from the socket, nothing is buffered in memory
+            ChunkedUploadService.ChunkResult result = uploadService.storeChunk(uploadId, index, sha256Hex,
+                request.getContentLengthLong(), request.getInputStream());
+            switch (result) {
+                case STORED:
+                    return ResponseEntity.ok(ApiResponse.success("Chunk " + index + " stored"));
+                case WRONG_SIZE:
+                    return ResponseEntity.badRequest()
+                        .body(ApiResponse.error("Chunk " + index + " has the wrong size"));
+                default:
+                    // 460 Checksum Mismatch, as in the tus checksum extension
+                    return ResponseEntity.status(460)
+                        .body(ApiResponse.error("Chunk " + index + " does not match its checksum, please resend it"));
+            }
+        } catch (Exception e) {
+            log.error("Error storing chunk {} of upload {}: {}", index, uploadId, e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to upload chunk: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Upload progress: which chunks the server already has, so an interrupted client can resume
+     */
+    @GetMapping("/{courseId}/materials/uploads/{uploadId}")
+    public ResponseEntity<ApiResponse<MaterialUploadResponseDto>> getUpload(
+            @PathVariable String courseId,
+            @PathVariable String uploadId) {
+        try {
+            MaterialUpload upload = uploadService.getUpload(uploadId);
+            List<Integer> received = uploadService.getReceivedChunks(uploadId);
+            return ResponseEntity.ok(ApiResponse.success("Upload status retrieved", toUploadDto(upload, received)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to get upload: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Finish an upload once every chunk has arrived, creating the material
+     */
+    @PostMapping("/{courseId}/materials/uploads/{uploadId}/complete")
+    public ResponseEntity<ApiResponse<CourseMaterial>> completeUpload(
+            @PathVariable String courseId,
+            @PathVariable String uploadId) {
+        try {
+            CourseMaterial material = uploadService.complete(uploadId);
+            log.info("Material {} added to course {} from upload {}", material.getId(), courseId, uploadId);
+            return ResponseEntity.ok(ApiResponse.success("Material added successfully", material));
+        } catch (Exception e) {
+            log.error("Error completing upload {}: {}", uploadId, e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to complete upload: " + e.getMessage()));
+        }
+    }
+
+    private MaterialUploadResponseDto toUploadDto(MaterialUpload upload, List<Integer> receivedChunks) {
+        return new MaterialUploadResponseDto(upload.getId(), upload.getStatus(), upload.getTotalSize(),
+            upload.getChunkSize(), upload.getChunkCount(), receivedChunks, upload.getExpiresAt());
+    }
+
+    /**
+     * Parse "sha256 <base64>" into lowercase hex, or null if absent or malformed
+     */
+    private String parseSha256Checksum(String header) {
+        if (header == null) return null;
+        
+        String[] parts = header.trim().split("\\s+");
+        if (parts.length != 2 || !parts[0].equalsIgnoreCase("sha256")) return null;
+        try {
+            byte[] digest = java.util.Base64.getDecoder().decode(parts[1]);
+            return digest.length == 32 ? java.util.HexFormat.of().formatHex(digest) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Download/view a material file. Images are served as their web-sized rendition once
+     * processing has produced one; pass original=true for the uploaded file.
      */
     @GetMapping("/{courseId}/materials/{materialId}/download")
-    public ResponseEntity<byte[]> downloadMaterial(
+    public ResponseEntity<?> downloadMaterial(
             @PathVariable String courseId,
-            @PathVariable String materialId) {
+            @PathVariable String materialId,
+            @RequestParam(defaultValue = "false") boolean original,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         try {
             Optional<CourseMaterial> materialOpt = materialRepository.findById(materialId);
             if (materialOpt.isEmpty()) {
@@ -210,36 +384,78 @@ public class CourseMaterialController {
             }
 
             CourseMaterial material = materialOpt.get();
+            String fileUrl = material.getFileUrl();
+            boolean isBinary = fileUrl != null && fileUrl.startsWith("binary://");
+            boolean isText = fileUrl != null && fileUrl.startsWith("text://");
             
-            if (material.getFileData() != null) {
-                // Return binary file data
+            if (fileUrl != null && fileUrl.startsWith(ChunkedUploadService.CONTENT_PREFIX)) {
+                // Large uploads are streamed chunk by chunk
+                String uploadId = fileUrl.substring(ChunkedUploadService.CONTENT_PREFIX.length());
                 HttpHeaders headers = new HttpHeaders();
                 headers.setContentType(getMediaType(material.getFileName()));
                 headers.setContentDispositionFormData("attachment", material.getFileName());
+                headers.setContentLength(material.getFileSize());
+                StreamingResponseBody body = out -> uploadService.writeContent(uploadId, out);
                 
                 return ResponseEntity.ok()
                     .headers(headers)
-                    .body(material.getFileData());
-            } else if (material.getFileUrl() != null && material.getFileUrl().startsWith("data:")) {
-                // Return text content from base64
-                String base64Data = material.getFileUrl().substring(material.getFileUrl().indexOf(",") + 1);
-                byte[] decodedData = java.util.Base64.getDecoder().decode(base64Data);
-                
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.TEXT_PLAIN);
-                
-                return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(decodedData);
-            } else if (material.getFileUrl() != null && material.getFileUrl().startsWith("text://")) {
-                // Return text content for text-only materials
-                String textContent = material.getDescription() != null ? material.getDescription() : material.getTitle();
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.TEXT_PLAIN);
-                
-                return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(textContent.getBytes());
+                    .body(body);
+            }
+            
+            if (isBinary && !original) {
+                Optional<RenditionContent> rendition = renditionRepository.findContentByMaterialId(materialId);
+                if (rendition.isPresent()) {
+                    HttpHeaders headers = new HttpHeaders();
+                    headers.setContentType(MediaType.parseMediaType(rendition.get().getContentType()));
+                    headers.setContentDispositionFormData("attachment",
+                        renditionFileName(material.getFileName(), rendition.get().getContentType()));
+                    
+                    return ResponseEntity.ok()
+                        .headers(headers)
+                        .body(rendition.get().getData());
+                }
+            }
+            
+            if (isBinary || isText) {
+                // Read the payload from the content table only now
+                Optional<StoredContent> stored = storageService.loadContent(materialId);
+                if (stored.isPresent()) {
+                    StoredContent content = stored.get();
+                    HttpHeaders headers = new HttpHeaders();
+                    if (isBinary) {
+                        headers.setContentType(getMediaType(material.getFileName()));
+                        headers.setContentDispositionFormData("attachment", material.getFileName());
+                    } else {
+                        headers.setContentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8));
+                    }
+                    
+                    byte[] body;
+                    if (CourseMaterialContent.GZIP.equals(content.getEncoding())) {
+                        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                        if (acceptsGzip(acceptEncoding)) {
+                            // Serve the stored bytes as they are, no decompress/recompress
+                            headers.set(HttpHeaders.CONTENT_ENCODING, CourseMaterialContent.GZIP);
+                            body = content.getData();
+                        } else {
+                            body = storageService.decode(content);
+                        }
+                    } else {
+                        body = content.getData();
+                    }
+                    
+                    return ResponseEntity.ok()
+                        .headers(headers)
+                        .body(body);
+                } else if (isText) {
+                    // Return text content for text-only materials
+                    String textContent = material.getDescription() != null ? material.getDescription() : material.getTitle();
+                    HttpHeaders headers = new HttpHeaders();
+                    headers.setContentType(MediaType.TEXT_PLAIN);
+                    
+                    return ResponseEntity.ok()
+                        .headers(headers)
+                        .body(textContent.getBytes());
+                }
             }
             
             return ResponseEntity.notFound().build();
@@ -249,6 +465,125 @@ public class CourseMaterialController {
         }
     }
 
+    /**
+     * File name for a rendition: the original's base name with the rendition's extension
+     */
+    private String renditionFileName(String fileName, String contentType) {
+        String extension = contentType.equals("image/png") ? ".png" : ".jpg";
+        int dot = fileName.lastIndexOf('.');
+        return (dot > 0 ? fileName.substring(0, dot) : fileName) + extension;
+    }
+
+    /**
+     * Preview metadata produced by background processing (page count, dimensions, thumbnail)
+     */
+    @GetMapping("/{courseId}/materials/{materialId}/preview")
+    public ResponseEntity<ApiResponse<MaterialPreviewResponseDto>> getPreview(
+            @PathVariable String courseId,
+            @PathVariable String materialId) {
+        try {
+            if (!materialRepository.existsById(materialId)) {
+                return ResponseEntity.notFound().build();
+            }
+            Optional<PreviewSummary> summary = previewRepository.findSummary(materialId);
+            if (summary.isEmpty()) {
+                MaterialPreviewResponseDto pending = new MaterialPreviewResponseDto(
+                    materialId, MaterialPreviewResponseDto.PENDING, null, null, null, null, null, null);
+                return ResponseEntity.ok(ApiResponse.success("Preview not ready yet", pending));
+            }
+            PreviewSummary preview = summary.get();
+            String thumbnailUrl = Boolean.TRUE.equals(preview.getHasThumbnail())
+                ? "/courses/" + courseId + "/materials/" + materialId + "/thumbnail" : null;
+            MaterialPreviewResponseDto dto = new MaterialPreviewResponseDto(materialId, MaterialPreviewResponseDto.READY,
+                preview.getPageCount(), preview.getImageWidth(), preview.getImageHeight(), thumbnailUrl,
+                preview.getTextLength(), preview.getProcessedAt());
+            return ResponseEntity.ok(ApiResponse.success("Preview retrieved", dto));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to get preview: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * JPEG thumbnail of an image or of a PDF's first page
+     */
+    @GetMapping("/{courseId}/materials/{materialId}/thumbnail")
+    public ResponseEntity<byte[]> getThumbnail(
+            @PathVariable String courseId,
+            @PathVariable String materialId) {
+        try {
+            return previewRepository.findThumbnail(materialId)
+                .map(thumbnail -> ResponseEntity.ok()
+                    .contentType(MediaType.IMAGE_JPEG)
+                    .header(HttpHeaders.CACHE_CONTROL, "private, max-age=3600")
+                    .body(thumbnail))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            log.error("Error loading thumbnail for material {}: {}", materialId, e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Download every material of a course as one ZIP, streamed entry by entry
+     */
+    @GetMapping("/{courseId}/materials/archive")
+    public ResponseEntity<StreamingResponseBody> downloadArchive(@PathVariable String courseId) {
+        Optional<String> archiveName = archiveService.archiveName(courseId);
+        if (archiveName.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.valueOf("application/zip"));
+        headers.setContentDispositionFormData("attachment", archiveName.get());
+
+        // Runs on the MVC async executor; a client disconnect surfaces as an IOException from the stream
+        StreamingResponseBody body = out -> archiveService.writeArchive(courseId, out);
+        return ResponseEntity.ok()
+            .headers(headers)
+            .body(body);
+    }
+
+    /**
+     * Whether an Accept-Encoding header allows gzip (explicitly or via *) with a non-zero q
+     */
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        
+        // An explicit gzip entry wins over "*", whatever their order; q=0 means "not acceptable"
+        double gzipQ = -1;
+        double wildcardQ = -1;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim().toLowerCase();
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQ = Math.max(gzipQ, qValue(tokens));
+            } else if (coding.equals("*")) {
+                wildcardQ = Math.max(wildcardQ, qValue(tokens));
+            }
+        }
+        return gzipQ >= 0 ? gzipQ > 0 : wildcardQ > 0;
+    }
+
+    /**
+     * Weight of one Accept-Encoding element: 1 without a q parameter, 0 when it can't be parsed
+     */
+    private double qValue(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String param = tokens[i].trim().toLowerCase();
+            if (param.startsWith("q=")) {
+                try {
+                    double q = Double.parseDouble(param.substring(2).trim());
+                    return q >= 0 && q <= 1 ? q : 0;
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
     private MediaType getMediaType(String fileName) {
         if (fileName == null) return MediaType.APPLICATION_OCTET_STREAM;
         
@@ -262,6 +597,9 @@ public class CourseMaterialController {
             case "txt": return MediaType.TEXT_PLAIN;
             case "doc":
             case "docx": return MediaType.valueOf("application/msword");
+            case "mp4": return MediaType.valueOf("video/mp4");
+            case "webm": return MediaType.valueOf("video/webm");
+            case "mov": return MediaType.valueOf("video/quicktime");
             default: return MediaType.APPLICATION_OCTET_STREAM;
         }
     }
@@ -273,6 +611,13 @@ public class CourseMaterialController {
         return extension.matches("(pdf|jpg|jpeg|png|gif|doc|docx|txt)");
     }
 
+    private boolean isValidUploadType(String fileName) {
+        if (isValidFileType(fileName)) return true;
+        
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase();
+        return extension.matches("(mp4|webm|mov)");
+    }
+
     /**
      * Delete a material (Admin only)
      */
@@ -281,12 +626,12 @@ public class CourseMaterialController {
             @PathVariable String courseId,
             @PathVariable String materialId) {
         try {
-            Optional<CourseMaterial> materialOpt = materialRepository.findById(materialId);
-            if (materialOpt.isEmpty()) {
+            if (!materialRepository.existsById(materialId)) {
                 return ResponseEntity.notFound().build();
             }
 
-            materialRepository.deleteById(materialId);
+            storageService.delete(materialId);
+            courseCatalogService.refreshCourse(courseId);
             log.info("Material {} deleted from course {} successfully", materialId, courseId);
 
             return ResponseEntity.ok(ApiResponse.success("Material deleted successfully", null));
@@ -297,6 +642,33 @@ public class CourseMaterialController {
         }
     }
 
+    /**
+     * Request class for starting a chunked upload
+     */
+    public static class UploadRequest {
+        private String title;
+        private String description;
+        private String type;
+        private String fileName;
+        private Long fileSize;
+
+        // Getters and setters
+        public String getTitle() { return title; }
+        public void setTitle(String title) { this.title = title; }
+        
+        public String getDescription() { return description; }
+        public void setDescription(String description) { this.description = description; }
+        
+        public String getType() { return type; }
+        public void setType(String type) { this.type = type; }
+        
+        public String getFileName() { return fileName; }
+        public void setFileName(String fileName) { this.fileName = fileName; }
+        
+        public Long getFileSize() { return fileSize; }
+        public void setFileSize(Long fileSize) { this.fileSize = fileSize; }
+    }
+
     /**
      * Request class for adding materials
      */
@@ -0,0 +1,108 @@
+package com.campusmate.controller;
+
+import com.campusmate.dto.response.ApiResponse;
+import com.campusmate.dto.response.EnrollmentResponseDto;
+import com.campusmate.service.EnrollmentService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Enrollment controller for course registration and waitlists
+ */
+@RestController
+@RequestMapping("/courses")
+@CrossOrigin(origins = "*")
+public class EnrollmentController {
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    /**
+     * Enroll in a course (joins the waitlist when the course is full)
+     */
+    @PostMapping("/{courseId}/enrollment")
+    public ResponseEntity<ApiResponse<EnrollmentResponseDto>> enroll(@PathVariable String courseId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error("Authentication required"));
+        }
+
+        try {
+            EnrollmentResponseDto result = enrollmentService.enroll(courseId, authentication.getName());
+            String message = EnrollmentResponseDto.WAITLISTED.equals(result.getStatus())
+                ? "Course is full, added to waitlist"
+                : "Enrolled successfully";
+            return ResponseEntity.ok(ApiResponse.success(message, result));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to enroll: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Drop a course
+     */
+    @DeleteMapping("/{courseId}/enrollment")
+    public ResponseEntity<ApiResponse<Void>> drop(@PathVariable String courseId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error("Authentication required"));
+        }
+
+        try {
+            enrollmentService.drop(courseId, authentication.getName());
+            return ResponseEntity.ok(ApiResponse.success("Course dropped successfully", null));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to drop course: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Leave a course waitlist
+     */
+    @DeleteMapping("/{courseId}/waitlist")
+    public ResponseEntity<ApiResponse<Void>> leaveWaitlist(@PathVariable String courseId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error("Authentication required"));
+        }
+
+        try {
+            enrollmentService.leaveWaitlist(courseId, authentication.getName());
+            return ResponseEntity.ok(ApiResponse.success("Left waitlist successfully", null));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to leave waitlist: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Get current user's enrollments and waitlist positions
+     */
+    @GetMapping("/my-enrollments")
+    public ResponseEntity<ApiResponse<List<EnrollmentResponseDto>>> getMyEnrollments() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error("Authentication required"));
+        }
+
+        try {
+            List<EnrollmentResponseDto> enrollments = enrollmentService.getUserEnrollments(authentication.getName());
+            return ResponseEntity.ok(ApiResponse.success("Enrollments retrieved successfully", enrollments));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to retrieve enrollments: " + e.getMessage()));
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.campusmate.dto.request.CreateProjectRequest;
 import com.campusmate.dto.request.ProjectJoinRequestDto;
 import com.campusmate.dto.request.ProjectJoinResponseDto;
 import com.campusmate.dto.response.ProjectJoinRequestResponseDto;
+import com.campusmate.dto.response.ProjectMatchResponseDto;
 import com.campusmate.dto.response.ProjectResponseDto;
 import com.campusmate.entity.Project;
 import com.campusmate.entity.ProjectJoinRequest;
@@ -147,6 +148,14 @@ public class ProjectController {
         return ResponseEntity.ok(ApiResponse.success("Projects by skill retrieved successfully", projects));
     }
     
+    @GetMapping("/recommendations")
+    public ResponseEntity<ApiResponse<List<ProjectMatchResponseDto>>> getRecommendedProjects(
+            @RequestParam List<String> skills,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<ProjectMatchResponseDto> matches = projectService.getRecommendedProjects(skills, limit);
+        return ResponseEntity.ok(ApiResponse.success("Recommended projects retrieved successfully", matches));
+    }
+    
     @GetMapping("/deadline")
     public ResponseEntity<ApiResponse<List<Project>>> getProjectsBeforeDeadline(@RequestParam String deadline) {
         LocalDateTime deadlineTime = LocalDateTime.parse(deadline);
@@ -201,6 +210,20 @@ public class ProjectController {
         }
     }
 
+    /**
+     * Get the pending join request count for a project (dashboard badge)
+     */
+    @GetMapping("/{projectId}/join-requests/count")
+    public ResponseEntity<ApiResponse<Long>> getProjectJoinRequestCount(@PathVariable String projectId) {
+        try {
+            long count = projectService.getPendingJoinRequestCount(projectId);
+            return ResponseEntity.ok(ApiResponse.success("Join request count retrieved successfully", count));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to retrieve join request count: " + e.getMessage()));
+        }
+    }
+
     /**
      * Get join requests for projects led by current user
      */
@@ -223,6 +246,28 @@ public class ProjectController {
         }
     }
 
+    /**
+     * Get the pending join request count across projects led by current user (dashboard badge)
+     */
+    @GetMapping("/my-projects/join-requests/count")
+    public ResponseEntity<ApiResponse<Long>> getMyProjectJoinRequestCount() {
+        try {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null || !authentication.isAuthenticated()) {
+                return ResponseEntity.status(401)
+                    .body(ApiResponse.error("Authentication required"));
+            }
+
+            String userEmail = authentication.getName();
+            long count = projectService.getPendingJoinRequestCountForLeader(userEmail);
+            
+            return ResponseEntity.ok(ApiResponse.success("Join request count retrieved successfully", count));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Failed to retrieve join request count: " + e.getMessage()));
+        }
+    }
+
     /**
      * Respond to a join request (approve/reject)
      */
@@ -0,0 +1,141 @@
+package com.campusmate.dto.response;
+
+import com.campusmate.entity.CourseCatalogEntry;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a course in the course list, built from the catalog read model.
+ * Keeps the shape the frontend reads: nested professor and subject.
+ */
+public class CourseCatalogResponseDto {
+
+    private String id;
+    private String code;
+    private String title;
+    private String description;
+    private Integer credits;
+    private Integer maxStudents;
+    private Integer currentStudents;
+    private Integer materialCount;
+    private String difficultyLevel;
+    private String semester;
+    private String year;
+    private Boolean isActive;
+    private ProfessorSummary professor;
+    private SubjectSummary subject;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public CourseCatalogResponseDto() {}
+
+    public CourseCatalogResponseDto(CourseCatalogEntry entry) {
+        this.id = entry.getId();
+        this.code = entry.getCode();
+        this.title = entry.getTitle();
+        this.description = entry.getDescription();
+        this.credits = entry.getCredits();
+        this.maxStudents = entry.getMaxStudents();
+        this.currentStudents = entry.getEnrolledCount();
+        this.materialCount = entry.getMaterialCount();
+        this.difficultyLevel = entry.getDifficultyLevel();
+        this.semester = entry.getSemester();
+        this.year = entry.getYear();
+        this.isActive = entry.getIsActive();
+        this.professor = new ProfessorSummary(entry.getProfessorId(), entry.getProfessorFirstName(), entry.getProfessorLastName());
+        this.subject = new SubjectSummary(entry.getSubjectId(), entry.getSubjectName(), entry.getSubjectCode());
+        this.createdAt = entry.getCreatedAt();
+    }
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getCode() { return code; }
+    public void setCode(String code) { this.code = code; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public Integer getCredits() { return credits; }
+    public void setCredits(Integer credits) { this.credits = credits; }
+
+    public Integer getMaxStudents() { return maxStudents; }
+    public void setMaxStudents(Integer maxStudents) { this.maxStudents = maxStudents; }
+
+    public Integer getCurrentStudents() { return currentStudents; }
+    public void setCurrentStudents(Integer currentStudents) { this.currentStudents = currentStudents; }
+
+    public Integer getMaterialCount() { return materialCount; }
+    public void setMaterialCount(Integer materialCount) { this.materialCount = materialCount; }
+
+    public String getDifficultyLevel() { return difficultyLevel; }
+    public void setDifficultyLevel(String difficultyLevel) { this.difficultyLevel = difficultyLevel; }
+
+    public String getSemester() { return semester; }
+    public void setSemester(String semester) { this.semester = semester; }
+
+    public String getYear() { return year; }
+    public void setYear(String year) { this.year = year; }
+
+    public Boolean getIsActive() { return isActive; }
+    public void setIsActive(Boolean isActive) { this.isActive = isActive; }
+
+    public ProfessorSummary getProfessor() { return professor; }
+    public void setProfessor(ProfessorSummary professor) { this.professor = professor; }
+
+    public SubjectSummary getSubject() { return subject; }
+    public void setSubject(SubjectSummary subject) { this.subject = subject; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public static class ProfessorSummary {
+        private String id;
+        private String firstName;
+        private String lastName;
+
+        public ProfessorSummary() {}
+
+        public ProfessorSummary(String id, String firstName, String lastName) {
+            this.id = id;
+            this.firstName = firstName;
+            this.lastName = lastName;
+        }
+
+        public String getId() { return id; }
+        public void setId(String id) { this.id = id; }
+
+        public String getFirstName() { return firstName; }
+        public void setFirstName(String firstName) { this.firstName = firstName; }
+
+        public String getLastName() { return lastName; }
+        public void setLastName(String lastName) { this.lastName = lastName; }
+    }
+
+    public static class SubjectSummary {
+        private String id;
+        private String name;
+        private String code;
+
+        public SubjectSummary() {}
+
+        public SubjectSummary(String id, String name, String code) {
+            this.id = id;
+            this.name = name;
+            this.code = code;
+        }
+
+        public String getId() { return id; }
+        public void setId(String id) { this.id = id; }
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        public String getCode() { return code; }
+        public void setCode(String code) { this.code = code; }
+    }
+}
@@ -0,0 +1,49 @@
+package com.campusmate.dto.response;
+
+import com.campusmate.entity.Job;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a dead-lettered job. The payload is left out: email jobs carry verification tokens.
+ */
+public class DeadJobResponseDto {
+
+    private String id;
+    private String queue;
+    private Integer attempts;
+    private String lastError;
+    private LocalDateTime runAt;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public DeadJobResponseDto() {}
+
+    public DeadJobResponseDto(Job job) {
+        this.id = job.getId();
+        this.queue = job.getQueue();
+        this.attempts = job.getAttempts();
+        this.lastError = job.getLastError();
+        this.runAt = job.getRunAt();
+        this.createdAt = job.getCreatedAt();
+    }
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getQueue() { return queue; }
+    public void setQueue(String queue) { this.queue = queue; }
+
+    public Integer getAttempts() { return attempts; }
+    public void setAttempts(Integer attempts) { this.attempts = attempts; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public LocalDateTime getRunAt() { return runAt; }
+    public void setRunAt(LocalDateTime runAt) { this.runAt = runAt; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,51 @@
+package com.campusmate.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a student's enrollment or waitlist state in a course
+ */
+public class EnrollmentResponseDto {
+
+    public static final String ENROLLED = "ENROLLED";
+    public static final String WAITLISTED = "WAITLISTED";
+
+    private String courseId;
+    private String courseCode;
+    private String courseTitle;
+    private String status;
+    private Long waitlistPosition; // 1-based, only set while waitlisted
+    private LocalDateTime enrolledAt;
+
+    // Constructors
+    public EnrollmentResponseDto() {}
+
+    public EnrollmentResponseDto(String courseId, String courseCode, String courseTitle, String status,
+                                 Long waitlistPosition, LocalDateTime enrolledAt) {
+        this.courseId = courseId;
+        this.courseCode = courseCode;
+        this.courseTitle = courseTitle;
+        this.status = status;
+        this.waitlistPosition = waitlistPosition;
+        this.enrolledAt = enrolledAt;
+    }
+
+    // Getters and Setters
+    public String getCourseId() { return courseId; }
+    public void setCourseId(String courseId) { this.courseId = courseId; }
+
+    public String getCourseCode() { return courseCode; }
+    public void setCourseCode(String courseCode) { this.courseCode = courseCode; }
+
+    public String getCourseTitle() { return courseTitle; }
+    public void setCourseTitle(String courseTitle) { this.courseTitle = courseTitle; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public Long getWaitlistPosition() { return waitlistPosition; }
+    public void setWaitlistPosition(Long waitlistPosition) { this.waitlistPosition = waitlistPosition; }
+
+    public LocalDateTime getEnrolledAt() { return enrolledAt; }
+    public void setEnrolledAt(LocalDateTime enrolledAt) { this.enrolledAt = enrolledAt; }
+}
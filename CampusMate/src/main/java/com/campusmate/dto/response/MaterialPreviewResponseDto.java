@@ -0,0 +1,61 @@
+package com.campusmate.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for what background processing derived from a material
+ */
+public class MaterialPreviewResponseDto {
+
+    private String materialId;
+    private String status; // PENDING until the worker has processed the material
+    private Integer pageCount;
+    private Integer imageWidth;
+    private Integer imageHeight;
+    private String thumbnailUrl;
+    private Integer textLength;
+    private LocalDateTime processedAt;
+
+    public static final String PENDING = "PENDING";
+    public static final String READY = "READY";
+
+    // Constructors
+    public MaterialPreviewResponseDto() {}
+
+    public MaterialPreviewResponseDto(String materialId, String status, Integer pageCount, Integer imageWidth,
+                                      Integer imageHeight, String thumbnailUrl, Integer textLength, LocalDateTime processedAt) {
+        this.materialId = materialId;
+        this.status = status;
+        this.pageCount = pageCount;
+        this.imageWidth = imageWidth;
+        this.imageHeight = imageHeight;
+        this.thumbnailUrl = thumbnailUrl;
+        this.textLength = textLength;
+        this.processedAt = processedAt;
+    }
+
+    // Getters and Setters
+    public String getMaterialId() { return materialId; }
+    public void setMaterialId(String materialId) { this.materialId = materialId; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public Integer getPageCount() { return pageCount; }
+    public void setPageCount(Integer pageCount) { this.pageCount = pageCount; }
+
+    public Integer getImageWidth() { return imageWidth; }
+    public void setImageWidth(Integer imageWidth) { this.imageWidth = imageWidth; }
+
+    public Integer getImageHeight() { return imageHeight; }
+    public void setImageHeight(Integer imageHeight) { this.imageHeight = imageHeight; }
+
+    public String getThumbnailUrl() { return thumbnailUrl; }
+    public void setThumbnailUrl(String thumbnailUrl) { this.thumbnailUrl = thumbnailUrl; }
+
+    public Integer getTextLength() { return textLength; }
+    public void setTextLength(Integer textLength) { this.textLength = textLength; }
+
+    public LocalDateTime getProcessedAt() { return processedAt; }
+    public void setProcessedAt(LocalDateTime processedAt) { this.processedAt = processedAt; }
+}
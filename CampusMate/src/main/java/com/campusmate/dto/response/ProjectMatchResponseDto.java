@@ -0,0 +1,60 @@
+package com.campusmate.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * DTO for a project recommended by skill overlap
+ */
+public class ProjectMatchResponseDto {
+
+    private String projectId;
+    private String title;
+    private String category;
+    private Integer openSlots;
+    private LocalDateTime deadline;
+    private Integer matchedSkillCount;
+    private Integer requiredSkillCount;
+    private Set<String> matchedSkills;
+
+    // Constructors
+    public ProjectMatchResponseDto() {}
+
+    public ProjectMatchResponseDto(String projectId, String title, String category, Integer openSlots,
+                                   LocalDateTime deadline, Integer matchedSkillCount, Integer requiredSkillCount,
+                                   Set<String> matchedSkills) {
+        this.projectId = projectId;
+        this.title = title;
+        this.category = category;
+        this.openSlots = openSlots;
+        this.deadline = deadline;
+        this.matchedSkillCount = matchedSkillCount;
+        this.requiredSkillCount = requiredSkillCount;
+        this.matchedSkills = matchedSkills;
+    }
+
+    // Getters and Setters
+    public String getProjectId() { return projectId; }
+    public void setProjectId(String projectId) { this.projectId = projectId; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public Integer getOpenSlots() { return openSlots; }
+    public void setOpenSlots(Integer openSlots) { this.openSlots = openSlots; }
+
+    public LocalDateTime getDeadline() { return deadline; }
+    public void setDeadline(LocalDateTime deadline) { this.deadline = deadline; }
+
+    public Integer getMatchedSkillCount() { return matchedSkillCount; }
+    public void setMatchedSkillCount(Integer matchedSkillCount) { this.matchedSkillCount = matchedSkillCount; }
+
+    public Integer getRequiredSkillCount() { return requiredSkillCount; }
+    public void setRequiredSkillCount(Integer requiredSkillCount) { this.requiredSkillCount = requiredSkillCount; }
+
+    public Set<String> getMatchedSkills() { return matchedSkills; }
+    public void setMatchedSkills(Set<String> matchedSkills) { this.matchedSkills = matchedSkills; }
+}
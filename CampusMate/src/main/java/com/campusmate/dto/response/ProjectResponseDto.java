@@ -17,6 +17,7 @@ public class ProjectResponseDto {
     private Integer maxMembers;
     private Integer currentMembers;
     private Integer progress;
+    private Integer pendingRequestCount;
     private LocalDateTime deadline;
     private Set<String> skillsRequired;
     private LocalDateTime createdAt;
@@ -41,6 +42,7 @@ public class ProjectResponseDto {
         this.maxMembers = project.getMaxMembers();
         this.currentMembers = project.getCurrentMembers();
         this.progress = project.getProgress();
+        this.pendingRequestCount = project.getPendingRequestCount();
         this.deadline = project.getDeadline();
         this.skillsRequired = project.getSkillsRequired();
         this.createdAt = project.getCreatedAt();
@@ -87,6 +89,9 @@ public class ProjectResponseDto {
     public Integer getProgress() { return progress; }
     public void setProgress(Integer progress) { this.progress = progress; }
 
+    public Integer getPendingRequestCount() { return pendingRequestCount; }
+    public void setPendingRequestCount(Integer pendingRequestCount) { this.pendingRequestCount = pendingRequestCount; }
+
     public LocalDateTime getDeadline() { return deadline; }
     public void setDeadline(LocalDateTime deadline) { this.deadline = deadline; }
 
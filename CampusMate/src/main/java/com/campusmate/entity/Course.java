@@ -1,5 +1,6 @@
 package com.campusmate.entity;
 
+import com.campusmate.entity.id.TimeOrderedUuid;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
@@ -31,7 +32,7 @@ import java.util.Set;
 public class Course {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private String id;
 
     @NotBlank(message = "Course code is required")
@@ -88,6 +89,10 @@ public class Course {
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
 
+    // Active enrollments, maintained by atomic seat updates in CourseRepository
+    @Column(name = "enrolled_count", nullable = false, updatable = false)
+    private Integer enrolledCount = 0;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -173,6 +178,9 @@ public class Course {
     public Boolean getIsActive() { return isActive; }
     public void setIsActive(Boolean isActive) { this.isActive = isActive; }
 
+    public Integer getEnrolledCount() { return enrolledCount; }
+    public void setEnrolledCount(Integer enrolledCount) { this.enrolledCount = enrolledCount; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
@@ -193,9 +201,7 @@ public class Course {
 
     // Helper methods
     public int getCurrentEnrollmentCount() {
-        return (int) enrollments.stream()
-                .filter(Enrollment::getIsActive)
-                .count();
+        return enrolledCount != null ? enrolledCount : 0;
     }
 
     public boolean hasAvailableSpots() {
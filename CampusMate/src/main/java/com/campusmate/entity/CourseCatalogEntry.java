@@ -0,0 +1,112 @@
+package com.campusmate.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flattened, read-only catalog row for a course.
+ * Written only by CourseCatalogRepository so listing the catalog never touches
+ * subjects, users, enrollments or materials.
+ */
+@Entity
+@Immutable
+@Table(name = "course_catalog", indexes = {
+    @Index(name = "idx_catalog_code", columnList = "code", unique = true),
+    @Index(name = "idx_catalog_subject", columnList = "subject_id"),
+    @Index(name = "idx_catalog_professor", columnList = "professor_id")
+})
+public class CourseCatalogEntry {
+
+    @Id
+    @Column(name = "course_id")
+    private String id;
+
+    @Column(nullable = false)
+    private String code;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(nullable = false)
+    private String semester;
+
+    @Column(nullable = false)
+    private String year;
+
+    @Column(nullable = false)
+    private Integer credits;
+
+    @Column(name = "max_students", nullable = false)
+    private Integer maxStudents;
+
+    @Column(name = "difficulty_level")
+    private String difficultyLevel;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive;
+
+    @Column(name = "subject_id", nullable = false)
+    private String subjectId;
+
+    @Column(name = "subject_code")
+    private String subjectCode;
+
+    @Column(name = "subject_name")
+    private String subjectName;
+
+    @Column(name = "professor_id", nullable = false)
+    private String professorId;
+
+    @Column(name = "professor_first_name")
+    private String professorFirstName;
+
+    @Column(name = "professor_last_name")
+    private String professorLastName;
+
+    @Column(name = "enrolled_count", nullable = false)
+    private Integer enrolledCount;
+
+    @Column(name = "material_count", nullable = false)
+    private Integer materialCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public CourseCatalogEntry() {}
+
+    // Getters
+    public String getId() { return id; }
+    public String getCode() { return code; }
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public String getSemester() { return semester; }
+    public String getYear() { return year; }
+    public Integer getCredits() { return credits; }
+    public Integer getMaxStudents() { return maxStudents; }
+    public String getDifficultyLevel() { return difficultyLevel; }
+    public Boolean getIsActive() { return isActive; }
+    public String getSubjectId() { return subjectId; }
+    public String getSubjectCode() { return subjectCode; }
+    public String getSubjectName() { return subjectName; }
+    public String getProfessorId() { return professorId; }
+    public String getProfessorFirstName() { return professorFirstName; }
+    public String getProfessorLastName() { return professorLastName; }
+    public Integer getEnrolledCount() { return enrolledCount; }
+    public Integer getMaterialCount() { return materialCount; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    // Helper methods
+    public boolean hasAvailableSpots() {
+        return enrolledCount < maxStudents;
+    }
+}
@@ -1,6 +1,7 @@
 package com.campusmate.entity;
 
 import com.campusmate.enums.MaterialType;
+import com.campusmate.entity.id.TimeOrderedUuid;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -28,7 +29,7 @@ import java.time.LocalDateTime;
 public class CourseMaterial {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private String id;
 
     @NotNull(message = "Course is required")
@@ -54,9 +55,7 @@ public class CourseMaterial {
     @Column(name = "file_url")
     private String fileUrl;
 
-    @Lob
-    @Column(name = "file_data")
-    private byte[] fileData;
+    // The payload of uploaded files lives in CourseMaterialContent, loaded only when served
 
     @NotNull(message = "File size is required")
     @Positive(message = "File size must be positive")
@@ -121,9 +120,6 @@ public class CourseMaterial {
     public String getFileUrl() { return fileUrl; }
     public void setFileUrl(String fileUrl) { this.fileUrl = fileUrl; }
 
-    public byte[] getFileData() { return fileData; }
-    public void setFileData(byte[] fileData) { this.fileData = fileData; }
-
     public Long getFileSize() { return fileSize; }
     public void setFileSize(Long fileSize) { this.fileSize = fileSize; }
 
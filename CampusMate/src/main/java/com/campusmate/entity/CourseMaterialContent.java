@@ -0,0 +1,65 @@
+package com.campusmate.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * CourseMaterialContent entity holding the stored bytes of a course material.
+ *
+ * Kept apart from CourseMaterial, with no association back from the material, so loading
+ * material metadata never reads the payload.
+ */
+@Entity
+@Table(name = "course_material_contents")
+public class CourseMaterialContent {
+
+    public static final String IDENTITY = "identity";
+    public static final String GZIP = "gzip";
+
+    @Id
+    @Column(name = "material_id")
+    private String materialId;
+
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @MapsId
+    @JoinColumn(name = "material_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonIgnore
+    private CourseMaterial material;
+
+    @Column(name = "data", nullable = false)
+    private byte[] data;
+
+    // How data is encoded at rest, using HTTP Content-Encoding tokens so it can be served as-is
+    @Column(name = "encoding", nullable = false, length = 16)
+    private String encoding = IDENTITY;
+
+    // Constructors
+    public CourseMaterialContent() {}
+
+    public CourseMaterialContent(CourseMaterial material, byte[] data) {
+        this.material = material;
+        this.data = data;
+    }
+
+    public CourseMaterialContent(CourseMaterial material, byte[] data, String encoding) {
+        this.material = material;
+        this.data = data;
+        this.encoding = encoding;
+    }
+
+    // Getters and Setters
+    public String getMaterialId() { return materialId; }
+    public void setMaterialId(String materialId) { this.materialId = materialId; }
+
+    public CourseMaterial getMaterial() { return material; }
+    public void setMaterial(CourseMaterial material) { this.material = material; }
+
+    public byte[] getData() { return data; }
+    public void setData(byte[] data) { this.data = data; }
+
+    public String getEncoding() { return encoding; }
+    public void setEncoding(String encoding) { this.encoding = encoding; }
+}
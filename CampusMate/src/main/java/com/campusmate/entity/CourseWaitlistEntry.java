@@ -0,0 +1,69 @@
+package com.campusmate.entity;
+
+import com.campusmate.entity.id.TimeOrderedUuid;
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * CourseWaitlistEntry entity representing a student queued for a full course
+ */
+@Entity
+@Table(name = "course_waitlist", indexes = {
+    @Index(name = "idx_waitlist_course_queue", columnList = "course_id, queued_at"),
+    @Index(name = "idx_waitlist_user", columnList = "user_id"),
+    @Index(name = "idx_waitlist_unique", columnList = "course_id, user_id", unique = true)
+})
+public class CourseWaitlistEntry {
+
+    @Id
+    @TimeOrderedUuid
+    private String id;
+
+    @NotNull(message = "Course is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonBackReference
+    private Course course;
+
+    @NotNull(message = "User is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonBackReference
+    private User user;
+
+    @Column(name = "queued_at", nullable = false, updatable = false)
+    private LocalDateTime queuedAt;
+
+    // Constructors
+    public CourseWaitlistEntry() {}
+
+    public CourseWaitlistEntry(Course course, User user) {
+        this.course = course;
+        this.user = user;
+    }
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public Course getCourse() { return course; }
+    public void setCourse(Course course) { this.course = course; }
+
+    public User getUser() { return user; }
+    public void setUser(User user) { this.user = user; }
+
+    public LocalDateTime getQueuedAt() { return queuedAt; }
+    public void setQueuedAt(LocalDateTime queuedAt) { this.queuedAt = queuedAt; }
+
+    @PrePersist
+    protected void onCreate() {
+        queuedAt = LocalDateTime.now();
+    }
+}
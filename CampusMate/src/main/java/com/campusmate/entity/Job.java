@@ -0,0 +1,99 @@
+package com.campusmate.entity;
+
+import com.campusmate.entity.id.TimeOrderedUuid;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Job entity representing a unit of background work in a Postgres-backed queue.
+ *
+ * Workers claim due PENDING jobs with FOR UPDATE SKIP LOCKED, so several threads and nodes
+ * can poll the same queue without blocking each other or running a job twice. A claimed job
+ * holds a lease; if its worker dies, the job becomes claimable again once the lease lapses.
+ * Completed jobs are deleted, so the table only holds pending, running and dead jobs.
+ */
+@Entity
+@Table(name = "jobs", indexes = {
+    @Index(name = "idx_jobs_queue_due", columnList = "queue, status, run_at"),
+    @Index(name = "idx_jobs_lease", columnList = "status, locked_until"),
+    @Index(name = "idx_jobs_status_created", columnList = "status, created_at")
+})
+public class Job {
+
+    public static final String PENDING = "PENDING";
+    public static final String RUNNING = "RUNNING";
+    public static final String DEAD = "DEAD"; // out of attempts; kept for inspection and manual retry
+
+    @Id
+    @TimeOrderedUuid
+    private String id;
+
+    @Column(nullable = false, length = 64)
+    private String queue;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false, length = 16)
+    private String status = PENDING;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "run_at", nullable = false)
+    private LocalDateTime runAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public Job() {}
+
+    public Job(String queue, String payload) {
+        this.queue = queue;
+        this.payload = payload;
+    }
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getQueue() { return queue; }
+    public void setQueue(String queue) { this.queue = queue; }
+
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public Integer getAttempts() { return attempts; }
+    public void setAttempts(Integer attempts) { this.attempts = attempts; }
+
+    public LocalDateTime getRunAt() { return runAt; }
+    public void setRunAt(LocalDateTime runAt) { this.runAt = runAt; }
+
+    public LocalDateTime getLockedUntil() { return lockedUntil; }
+    public void setLockedUntil(LocalDateTime lockedUntil) { this.lockedUntil = lockedUntil; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (runAt == null) {
+            runAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.campusmate.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * MaterialChunk entity holding one verified chunk of a chunked material upload.
+ *
+ * Rows are written by ChunkedUploadService straight from the request stream over JDBC;
+ * the mapping exists for the schema and for reading chunks back one at a time.
+ */
+@Entity
+@Table(name = "material_chunks")
+@IdClass(MaterialChunk.Key.class)
+public class MaterialChunk {
+
+    @Id
+    @Column(name = "upload_id")
+    private String uploadId;
+
+    @Id
+    @Column(name = "chunk_index")
+    private Integer chunkIndex;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "upload_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private MaterialUpload upload;
+
+    @Column(nullable = false)
+    private Integer size;
+
+    // Hex SHA-256 of data, verified against the client's checksum before the chunk is committed
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(nullable = false)
+    private byte[] data;
+
+    // Constructors
+    public MaterialChunk() {}
+
+    // Getters and Setters
+    public String getUploadId() { return uploadId; }
+    public void setUploadId(String uploadId) { this.uploadId = uploadId; }
+
+    public Integer getChunkIndex() { return chunkIndex; }
+    public void setChunkIndex(Integer chunkIndex) { this.chunkIndex = chunkIndex; }
+
+    public MaterialUpload getUpload() { return upload; }
+    public void setUpload(MaterialUpload upload) { this.upload = upload; }
+
+    public Integer getSize() { return size; }
+    public void setSize(Integer size) { this.size = size; }
+
+    public String getSha256() { return sha256; }
+    public void setSha256(String sha256) { this.sha256 = sha256; }
+
+    public byte[] getData() { return data; }
+    public void setData(byte[] data) { this.data = data; }
+
+    /**
+     * Composite key: upload id plus chunk position
+     */
+    public static class Key implements Serializable {
+        private String uploadId;
+        private Integer chunkIndex;
+
+        public Key() {}
+
+        public Key(String uploadId, Integer chunkIndex) {
+            this.uploadId = uploadId;
+            this.chunkIndex = chunkIndex;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Objects.equals(uploadId, key.uploadId) && Objects.equals(chunkIndex, key.chunkIndex);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(uploadId, chunkIndex);
+        }
+    }
+}
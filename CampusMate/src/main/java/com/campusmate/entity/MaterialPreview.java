@@ -0,0 +1,81 @@
+package com.campusmate.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * MaterialPreview entity holding what background processing derived from a material:
+ * a thumbnail, plain text for search, and basic document/image metadata.
+ */
+@Entity
+@Table(name = "material_previews")
+public class MaterialPreview {
+
+    @Id
+    @Column(name = "material_id")
+    private String materialId;
+
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @MapsId
+    @JoinColumn(name = "material_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonIgnore
+    private CourseMaterial material;
+
+    // Small JPEG; read through MaterialPreviewRepository projections rather than the entity
+    @Column(name = "thumbnail")
+    @JsonIgnore
+    private byte[] thumbnail;
+
+    @Column(name = "extracted_text", columnDefinition = "TEXT")
+    @JsonIgnore
+    private String extractedText;
+
+    @Column(name = "page_count")
+    private Integer pageCount;
+
+    @Column(name = "image_width")
+    private Integer imageWidth;
+
+    @Column(name = "image_height")
+    private Integer imageHeight;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+
+    // Constructors
+    public MaterialPreview() {}
+
+    public MaterialPreview(CourseMaterial material) {
+        this.material = material;
+    }
+
+    // Getters and Setters
+    public String getMaterialId() { return materialId; }
+    public void setMaterialId(String materialId) { this.materialId = materialId; }
+
+    public CourseMaterial getMaterial() { return material; }
+    public void setMaterial(CourseMaterial material) { this.material = material; }
+
+    public byte[] getThumbnail() { return thumbnail; }
+    public void setThumbnail(byte[] thumbnail) { this.thumbnail = thumbnail; }
+
+    public String getExtractedText() { return extractedText; }
+    public void setExtractedText(String extractedText) { this.extractedText = extractedText; }
+
+    public Integer getPageCount() { return pageCount; }
+    public void setPageCount(Integer pageCount) { this.pageCount = pageCount; }
+
+    public Integer getImageWidth() { return imageWidth; }
+    public void setImageWidth(Integer imageWidth) { this.imageWidth = imageWidth; }
+
+    public Integer getImageHeight() { return imageHeight; }
+    public void setImageHeight(Integer imageHeight) { this.imageHeight = imageHeight; }
+
+    public LocalDateTime getProcessedAt() { return processedAt; }
+    public void setProcessedAt(LocalDateTime processedAt) { this.processedAt = processedAt; }
+}
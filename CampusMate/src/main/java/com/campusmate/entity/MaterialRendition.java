@@ -0,0 +1,73 @@
+package com.campusmate.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * MaterialRendition entity holding a web-sized copy of an image material.
+ * The original stays untouched in course_material_contents.
+ */
+@Entity
+@Table(name = "material_renditions")
+public class MaterialRendition {
+
+    @Id
+    @Column(name = "material_id")
+    private String materialId;
+
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @MapsId
+    @JoinColumn(name = "material_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonIgnore
+    private CourseMaterial material;
+
+    @Column(name = "data", nullable = false)
+    @JsonIgnore
+    private byte[] data;
+
+    @Column(name = "content_type", nullable = false, length = 32)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Integer width;
+
+    @Column(nullable = false)
+    private Integer height;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public MaterialRendition() {}
+
+    public MaterialRendition(CourseMaterial material) {
+        this.material = material;
+    }
+
+    // Getters and Setters
+    public String getMaterialId() { return materialId; }
+    public void setMaterialId(String materialId) { this.materialId = materialId; }
+
+    public CourseMaterial getMaterial() { return material; }
+    public void setMaterial(CourseMaterial material) { this.material = material; }
+
+    public byte[] getData() { return data; }
+    public void setData(byte[] data) { this.data = data; }
+
+    public String getContentType() { return contentType; }
+    public void setContentType(String contentType) { this.contentType = contentType; }
+
+    public Integer getWidth() { return width; }
+    public void setWidth(Integer width) { this.width = width; }
+
+    public Integer getHeight() { return height; }
+    public void setHeight(Integer height) { this.height = height; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,147 @@
+package com.campusmate.entity;
+
+import com.campusmate.enums.MaterialType;
+import com.campusmate.entity.id.TimeOrderedUuid;
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * MaterialUpload entity representing a resumable, chunked upload of a course material.
+ *
+ * Chunks arrive as MaterialChunk rows; once all are in, the upload is completed into a
+ * CourseMaterial whose payload is served straight from those chunks.
+ */
+@Entity
+@Table(name = "material_uploads", indexes = {
+    @Index(name = "idx_material_upload_course", columnList = "course_id"),
+    @Index(name = "idx_material_upload_material", columnList = "material_id"),
+    @Index(name = "idx_material_upload_expires", columnList = "expires_at")
+})
+public class MaterialUpload {
+
+    public static final String UPLOADING = "UPLOADING";
+    public static final String COMPLETED = "COMPLETED";
+
+    @Id
+    @TimeOrderedUuid
+    private String id;
+
+    @NotNull(message = "Course is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonBackReference
+    private Course course;
+
+    @NotNull(message = "Uploader is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "uploaded_by", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonBackReference
+    private User uploadedBy;
+
+    // Set on completion; deleting the material deletes the upload and its chunks
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "material_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonBackReference
+    private CourseMaterial material;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MaterialType type;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "total_size", nullable = false)
+    private Long totalSize;
+
+    @Column(name = "chunk_size", nullable = false)
+    private Integer chunkSize;
+
+    @Column(name = "chunk_count", nullable = false)
+    private Integer chunkCount;
+
+    @Column(nullable = false, length = 16)
+    private String status = UPLOADING;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Unfinished uploads are deleted after this
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // Constructors
+    public MaterialUpload() {}
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public Course getCourse() { return course; }
+    public void setCourse(Course course) { this.course = course; }
+
+    public User getUploadedBy() { return uploadedBy; }
+    public void setUploadedBy(User uploadedBy) { this.uploadedBy = uploadedBy; }
+
+    public CourseMaterial getMaterial() { return material; }
+    public void setMaterial(CourseMaterial material) { this.material = material; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public MaterialType getType() { return type; }
+    public void setType(MaterialType type) { this.type = type; }
+
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+
+    public Long getTotalSize() { return totalSize; }
+    public void setTotalSize(Long totalSize) { this.totalSize = totalSize; }
+
+    public Integer getChunkSize() { return chunkSize; }
+    public void setChunkSize(Integer chunkSize) { this.chunkSize = chunkSize; }
+
+    public Integer getChunkCount() { return chunkCount; }
+    public void setChunkCount(Integer chunkCount) { this.chunkCount = chunkCount; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+
+    /**
+     * Expected byte length of a chunk; only the last one may be shorter
+     */
+    public long expectedChunkSize(int index) {
+        if (index < chunkCount - 1) {
+            return chunkSize;
+        }
+        return totalSize - (long) chunkSize * (chunkCount - 1);
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
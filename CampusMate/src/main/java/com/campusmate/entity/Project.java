@@ -1,6 +1,7 @@
 package com.campusmate.entity;
 
 import com.campusmate.enums.ProjectStatus;
+import com.campusmate.entity.id.TimeOrderedUuid;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -9,6 +10,8 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -41,7 +44,7 @@ import java.util.Set;
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private String id;
 
     @NotBlank(message = "Title is required")
@@ -85,11 +88,20 @@ public class Project {
     @Column(nullable = false)
     private Integer progress = 0;
 
+    // Maintained by atomic counter updates in ProjectRepository, never written from the entity
+    @Column(name = "pending_request_count", nullable = false, updatable = false)
+    private Integer pendingRequestCount = 0;
+
     @NotNull(message = "Deadline is required")
     @Column(nullable = false)
     private LocalDateTime deadline;
 
-    @ElementCollection(fetch = FetchType.LAZY)
+    @Column(name = "reminder_sent_at")
+    @JsonIgnore
+    private LocalDateTime reminderSentAt;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(name = "project_skills", joinColumns = @JoinColumn(name = "project_id"))
     @Column(name = "skill")
     private Set<String> skillsRequired = new HashSet<>();
@@ -163,9 +175,15 @@ public class Project {
     public Integer getProgress() { return progress; }
     public void setProgress(Integer progress) { this.progress = progress; }
 
+    public Integer getPendingRequestCount() { return pendingRequestCount; }
+    public void setPendingRequestCount(Integer pendingRequestCount) { this.pendingRequestCount = pendingRequestCount; }
+
     public LocalDateTime getDeadline() { return deadline; }
     public void setDeadline(LocalDateTime deadline) { this.deadline = deadline; }
 
+    public LocalDateTime getReminderSentAt() { return reminderSentAt; }
+    public void setReminderSentAt(LocalDateTime reminderSentAt) { this.reminderSentAt = reminderSentAt; }
+
     public Set<String> getSkillsRequired() { return skillsRequired; }
     public void setSkillsRequired(Set<String> skillsRequired) { this.skillsRequired = skillsRequired; }
 
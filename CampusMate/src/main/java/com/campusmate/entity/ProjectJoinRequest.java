@@ -1,5 +1,6 @@
 package com.campusmate.entity;
 
+import com.campusmate.entity.id.TimeOrderedUuid;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
@@ -31,7 +32,7 @@ import java.time.LocalDateTime;
 public class ProjectJoinRequest {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private String id;
 
     @NotNull(message = "Project is required")
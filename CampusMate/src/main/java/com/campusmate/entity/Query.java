@@ -1,12 +1,17 @@
 package com.campusmate.entity;
 
 import com.campusmate.enums.QueryStatus;
+import com.campusmate.entity.id.NativeUuidType;
+import com.campusmate.entity.id.TimeOrderedUuid;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.Type;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -31,7 +36,8 @@ import java.util.Set;
 public class Query {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
+    @Type(NativeUuidType.class)
     private String id;
 
     @NotBlank(message = "Title is required")
@@ -63,7 +69,8 @@ public class Query {
     @Column(nullable = false)
     private QueryStatus status;
 
-    @ElementCollection(fetch = FetchType.LAZY)
+    @ElementCollection(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(name = "query_tags", joinColumns = @JoinColumn(name = "query_id"))
     @Column(name = "tag")
     private Set<String> tags = new HashSet<>();
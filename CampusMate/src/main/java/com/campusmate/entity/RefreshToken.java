@@ -0,0 +1,79 @@
+package com.campusmate.entity;
+
+import com.campusmate.entity.id.TimeOrderedUuid;
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * RefreshToken entity holding the hash of one issued refresh token
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+    @Index(name = "idx_refresh_token_hash", columnList = "token_hash", unique = true),
+    @Index(name = "idx_refresh_token_family", columnList = "family_id")
+})
+public class RefreshToken {
+
+    @Id
+    @TimeOrderedUuid
+    private String id;
+
+    @NotNull(message = "Family is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "family_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonBackReference
+    private RefreshTokenFamily family;
+
+    // Hex SHA-256 of the token; the token itself is never stored
+    @Column(name = "token_hash", nullable = false, length = 64, updatable = false)
+    private String tokenHash;
+
+    @Column(name = "issued_at", nullable = false, updatable = false)
+    private LocalDateTime issuedAt;
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private LocalDateTime expiresAt;
+
+    // Set by a conditional UPDATE when the token is rotated
+    @Column(name = "used_at", insertable = false, updatable = false)
+    private LocalDateTime usedAt;
+
+    // Constructors
+    public RefreshToken() {}
+
+    public RefreshToken(RefreshTokenFamily family, String tokenHash, LocalDateTime expiresAt) {
+        this.family = family;
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public RefreshTokenFamily getFamily() { return family; }
+    public void setFamily(RefreshTokenFamily family) { this.family = family; }
+
+    public String getTokenHash() { return tokenHash; }
+    public void setTokenHash(String tokenHash) { this.tokenHash = tokenHash; }
+
+    public LocalDateTime getIssuedAt() { return issuedAt; }
+    public void setIssuedAt(LocalDateTime issuedAt) { this.issuedAt = issuedAt; }
+
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+
+    public LocalDateTime getUsedAt() { return usedAt; }
+    public void setUsedAt(LocalDateTime usedAt) { this.usedAt = usedAt; }
+
+    @PrePersist
+    protected void onCreate() {
+        issuedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,84 @@
+package com.campusmate.entity;
+
+import com.campusmate.entity.id.TimeOrderedUuid;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ScheduledTaskRun entity recording one execution of a cluster-wide scheduled task
+ */
+@Entity
+@Table(name = "scheduled_task_runs", indexes = {
+    @Index(name = "idx_task_run_name_started", columnList = "task_name, started_at"),
+    @Index(name = "idx_task_run_started", columnList = "started_at")
+})
+public class ScheduledTaskRun {
+
+    public static final String SUCCEEDED = "SUCCEEDED";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @TimeOrderedUuid
+    private String id;
+
+    @Column(name = "task_name", nullable = false, length = 128)
+    private String taskName;
+
+    @Column(nullable = false)
+    private String node;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at", nullable = false)
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_ms", nullable = false)
+    private Long durationMs;
+
+    @Column(nullable = false, length = 16)
+    private String status;
+
+    @Column(columnDefinition = "TEXT")
+    private String error;
+
+    // Constructors
+    public ScheduledTaskRun() {}
+
+    public ScheduledTaskRun(String taskName, String node, LocalDateTime startedAt, LocalDateTime finishedAt,
+                            long durationMs, String status, String error) {
+        this.taskName = taskName;
+        this.node = node;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.durationMs = durationMs;
+        this.status = status;
+        this.error = error;
+    }
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getTaskName() { return taskName; }
+    public void setTaskName(String taskName) { this.taskName = taskName; }
+
+    public String getNode() { return node; }
+    public void setNode(String node) { this.node = node; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+
+    public Long getDurationMs() { return durationMs; }
+    public void setDurationMs(Long durationMs) { this.durationMs = durationMs; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
@@ -1,12 +1,15 @@
 package com.campusmate.entity;
 
 import com.campusmate.enums.DifficultyLevel;
+import com.campusmate.entity.id.TimeOrderedUuid;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -29,7 +32,7 @@ import java.util.Set;
 public class Subject {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private String id;
 
     @NotBlank(message = "Subject code is required")
@@ -60,12 +63,14 @@ public class Subject {
     @Column(nullable = false)
     private DifficultyLevel difficulty;
 
-    @ElementCollection(fetch = FetchType.LAZY)
+    @ElementCollection(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(name = "subject_prerequisites", joinColumns = @JoinColumn(name = "subject_id"))
     @Column(name = "prerequisite")
     private Set<String> prerequisites = new HashSet<>();
 
-    @ElementCollection(fetch = FetchType.LAZY)
+    @ElementCollection(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(name = "subject_topics", joinColumns = @JoinColumn(name = "subject_id"))
     @Column(name = "topic")
     private Set<String> topics = new HashSet<>();
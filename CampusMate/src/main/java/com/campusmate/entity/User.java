@@ -1,6 +1,7 @@
 package com.campusmate.entity;
 
 import com.campusmate.enums.UserRole;
+import com.campusmate.entity.id.TimeOrderedUuid;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
@@ -34,7 +35,7 @@ import java.util.Set;
 public class User implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private String id;
 
     @NotBlank(message = "Email is required")
@@ -81,6 +82,11 @@ public class User implements UserDetails {
     @Column(name = "last_login")
     private LocalDateTime lastLogin;
 
+    // Pending join requests across all projects led by this user, maintained by UserRepository
+    @Column(name = "pending_join_request_count", nullable = false, updatable = false)
+    @JsonIgnore
+    private Integer pendingJoinRequestCount = 0;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -181,6 +187,9 @@ public class User implements UserDetails {
     public LocalDateTime getLastLogin() { return lastLogin; }
     public void setLastLogin(LocalDateTime lastLogin) { this.lastLogin = lastLogin; }
 
+    public Integer getPendingJoinRequestCount() { return pendingJoinRequestCount; }
+    public void setPendingJoinRequestCount(Integer pendingJoinRequestCount) { this.pendingJoinRequestCount = pendingJoinRequestCount; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
@@ -1,9 +1,12 @@
 package com.campusmate.entity;
 
 import com.campusmate.enums.VoteType;
+import com.campusmate.entity.id.NativeUuidType;
+import com.campusmate.entity.id.TimeOrderedUuid;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Type;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -23,7 +26,8 @@ import java.time.LocalDateTime;
 public class Vote {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
+    @Type(NativeUuidType.class)
     private String id;
 
     @NotNull(message = "User is required")
@@ -38,6 +42,7 @@ public class Vote {
     private VoteType targetType;
 
     @NotNull(message = "Target ID is required")
+    @Type(NativeUuidType.class)
     @Column(name = "target_id", nullable = false)
     private String targetId;
 
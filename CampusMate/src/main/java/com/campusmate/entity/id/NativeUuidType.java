@@ -0,0 +1,114 @@
+package com.campusmate.entity.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.usertype.EnhancedUserType;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Maps a String id to a native Postgres uuid column (16 bytes instead of 37 for the text form).
+ *
+ * The Java side stays a String, so repositories, DTOs and URLs are unaffected. Many-to-one
+ * columns pointing at an id mapped this way become uuid as well. Binding a value that is not
+ * a UUID fails with an IllegalArgumentException instead of simply matching no row, so ids
+ * taken from requests are checked with isUuid first.
+ */
+public class NativeUuidType implements EnhancedUserType<String> {
+
+    private static final Pattern UUID_FORMAT =
+        Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    /**
+     * Whether a value can be bound to a uuid column (canonical 36-character form only)
+     */
+    public static boolean isUuid(String value) {
+        return value != null && UUID_FORMAT.matcher(value).matches();
+    }
+
+    @Override
+    public int getSqlType() {
+        return SqlTypes.UUID;
+    }
+
+    @Override
+    public Class<String> returnedClass() {
+        return String.class;
+    }
+
+    @Override
+    public boolean equals(String x, String y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(String x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public String nullSafeGet(ResultSet rs, int position, SharedSessionContractImplementor session, Object owner) throws SQLException {
+        UUID value = rs.getObject(position, UUID.class);
+        return value != null ? value.toString() : null;
+    }
+
+    @Override
+    public void nullSafeSet(PreparedStatement st, String value, int index, SharedSessionContractImplementor session) throws SQLException {
+        if (value == null) {
+            st.setNull(index, Types.OTHER);
+        } else {
+            st.setObject(index, UUID.fromString(value));
+        }
+    }
+
+    @Override
+    public String deepCopy(String value) {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(String value) {
+        return value;
+    }
+
+    @Override
+    public String assemble(Serializable cached, Object owner) {
+        return (String) cached;
+    }
+
+    @Override
+    public String replace(String detached, String managed, Object owner) {
+        return detached;
+    }
+
+    /**
+     * Literal form, needed wherever Hibernate inlines ids (e.g. multi-id loads); parsing first
+     * keeps anything but a UUID out of the SQL
+     */
+    @Override
+    public String toSqlLiteral(String value) {
+        return "'" + UUID.fromString(value) + "'";
+    }
+
+    @Override
+    public String toString(String value) {
+        return value;
+    }
+
+    @Override
+    public String fromStringValue(CharSequence sequence) {
+        return sequence != null ? sequence.toString() : null;
+    }
+}
@@ -7,7 +7,8 @@ public enum ProjectStatus {
     RECRUITING("Recruiting"),
     ACTIVE("Active"),
     COMPLETED("Completed"),
-    PAUSED("Paused");
+    PAUSED("Paused"),
+    OVERDUE("Overdue");
 
     private final String displayName;
 
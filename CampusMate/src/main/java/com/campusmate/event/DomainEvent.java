@@ -0,0 +1,50 @@
+package com.campusmate.event;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * A committed change to an aggregate, delivered by OutboxRelay to @EventListener methods.
+ *
+ * Delivery is at least once, so listeners must be idempotent; getId() increases with every
+ * event and can be used to drop duplicates. Listen to one kind of event with e.g.
+ * {@code @EventListener(condition = "#event.type == 'ProjectCreated'")}.
+ */
+public class DomainEvent {
+
+    // Aggregate types
+    public static final String QUERY = "Query";
+    public static final String RESPONSE = "Response";
+    public static final String PROJECT = "Project";
+    public static final String COURSE = "Course";
+    public static final String COURSE_MATERIAL = "CourseMaterial";
+
+    private final long id;
+    private final String aggregateType;
+    private final String aggregateId;
+    private final String type;
+    private final Map<String, Object> payload;
+    private final LocalDateTime occurredAt;
+
+    public DomainEvent(long id, String aggregateType, String aggregateId, String type,
+                       Map<String, Object> payload, LocalDateTime occurredAt) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.type = type;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+
+    public long getId() { return id; }
+    public String getAggregateType() { return aggregateType; }
+    public String getAggregateId() { return aggregateId; }
+    public String getType() { return type; }
+    public Map<String, Object> getPayload() { return payload; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+
+    @Override
+    public String toString() {
+        return type + "#" + id + "(" + aggregateType + " " + aggregateId + ")";
+    }
+}
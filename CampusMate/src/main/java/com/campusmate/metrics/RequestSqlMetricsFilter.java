@@ -0,0 +1,110 @@
+package com.campusmate.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Records how many SQL statements each HTTP request issued, tagged like http.server.requests
+ * so the two can be lined up on the same dashboard, and flags requests that blow the SQL budget
+ * or repeat the same statement often enough to look like an N+1 load.
+ *
+ * Runs ahead of the security chain so statements issued while authenticating the JWT are counted too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestSqlMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestSqlMetricsFilter.class);
+
+    static final String METRIC_NAME = "campusmate.http.sql.statements";
+    static final String VIOLATIONS_METRIC_NAME = "campusmate.http.sql.budget.violations";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.sql.budget.max-statements:50}")
+    private int maxStatements;
+
+    @Value("${app.sql.budget.max-repeats:10}")
+    private int maxRepeats;
+
+    @Value("${app.sql.budget.fail-on-violation:false}")
+    private boolean failOnViolation;
+
+    public RequestSqlMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.begin();
+        SqlStatementCounter.Stats stats;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            stats = SqlStatementCounter.end();
+            DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements issued per HTTP request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uriTag(request))
+                .tag("status", String.valueOf(response.getStatus()))
+                .register(meterRegistry)
+                .record(stats.getTotal());
+        }
+        checkBudget(request, stats);
+    }
+
+    private void checkBudget(HttpServletRequest request, SqlStatementCounter.Stats stats) {
+        Map.Entry<String, Integer> repeated = stats.mostRepeated();
+        boolean overBudget = stats.getTotal() > maxStatements;
+        boolean nPlusOne = repeated != null && repeated.getValue() > maxRepeats;
+        if (!overBudget && !nPlusOne) {
+            return;
+        }
+
+        String endpoint = request.getMethod() + " " + uriTag(request);
+        String type = nPlusOne ? "n_plus_one" : "budget";
+        Counter.builder(VIOLATIONS_METRIC_NAME)
+            .description("Requests that exceeded the SQL budget or repeated a statement too often")
+            .tag("method", request.getMethod())
+            .tag("uri", uriTag(request))
+            .tag("type", type)
+            .register(meterRegistry)
+            .increment();
+
+        String message = nPlusOne
+            ? String.format("Possible N+1 on %s: %d statements, %d x [%s]",
+                endpoint, stats.getTotal(), repeated.getValue(), repeated.getKey())
+            : String.format("SQL budget exceeded on %s: %d statements (budget %d)",
+                endpoint, stats.getTotal(), maxStatements);
+        log.warn(message);
+
+        if (failOnViolation) {
+            // Meant for integration tests: MockMvc rethrows it, failing the offending test
+            throw new RuntimeException(message);
+        }
+    }
+
+    static String uriTag(HttpServletRequest request) {
+        // Same low-cardinality template Spring MVC uses for http.server.requests
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,77 @@
+package com.campusmate.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hibernate statement inspector that counts the SQL statements prepared on the current thread.
+ *
+ * Hibernate's own Statistics are global to the SessionFactory, so they cannot be attributed
+ * to a single request; this counter is reset by RequestSqlMetricsFilter at the start of each
+ * request and read back when it completes. Identical statements are tallied separately so
+ * the filter can spot N+1 loads (the same parameterized SELECT issued once per row).
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    // Bound on distinct statements remembered per request; the total keeps counting past it
+    private static final int MAX_DISTINCT_STATEMENTS = 256;
+
+    private static final ThreadLocal<Stats> STATS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Stats stats = STATS.get();
+        if (stats != null) {
+            stats.record(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Start counting statements on the current thread
+     */
+    public static void begin() {
+        STATS.set(new Stats());
+    }
+
+    /**
+     * Stop counting and return what was issued since begin()
+     */
+    public static Stats end() {
+        Stats stats = STATS.get();
+        STATS.remove();
+        return stats != null ? stats : new Stats();
+    }
+
+    /**
+     * Statements issued during one request
+     */
+    public static final class Stats {
+        private int total;
+        private final Map<String, Integer> byStatement = new HashMap<>();
+
+        private void record(String sql) {
+            total++;
+            if (byStatement.size() < MAX_DISTINCT_STATEMENTS || byStatement.containsKey(sql)) {
+                byStatement.merge(sql, 1, Integer::sum);
+            }
+        }
+
+        public int getTotal() { return total; }
+
+        /**
+         * The most frequently repeated statement, or null if nothing ran
+         */
+        public Map.Entry<String, Integer> mostRepeated() {
+            Map.Entry<String, Integer> top = null;
+            for (Map.Entry<String, Integer> entry : byStatement.entrySet()) {
+                if (top == null || entry.getValue() > top.getValue()) {
+                    top = entry;
+                }
+            }
+            return top;
+        }
+    }
+}
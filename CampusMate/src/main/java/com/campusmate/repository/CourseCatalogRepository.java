@@ -0,0 +1,81 @@
+package com.campusmate.repository;
+
+import com.campusmate.entity.CourseCatalogEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for the course catalog read model.
+ * Rows are rebuilt from the source tables with an upsert; counters move by delta.
+ */
+@Repository
+public interface CourseCatalogRepository extends JpaRepository<CourseCatalogEntry, String> {
+
+    String UPSERT_SELECT =
+        "INSERT INTO course_catalog (course_id, code, title, description, semester, year, credits, max_students, " +
+        "difficulty_level, is_active, subject_id, subject_code, subject_name, professor_id, professor_first_name, professor_last_name, " +
+        "enrolled_count, material_count, created_at, updated_at) " +
+        "SELECT c.id, c.code, c.title, c.description, c.semester, c.year, c.credits, c.max_students, " +
+        "c.difficulty_level, c.is_active, s.id, s.code, s.name, u.id, u.first_name, u.last_name, " +
+        "c.enrolled_count, (SELECT COUNT(*) FROM course_materials m WHERE m.course_id = c.id), c.created_at, c.updated_at " +
+        "FROM courses c JOIN subjects s ON c.subject_id = s.id JOIN users u ON c.professor_id = u.id ";
+
+    String ON_CONFLICT_UPDATE =
+        " ON CONFLICT (course_id) DO UPDATE SET code = EXCLUDED.code, title = EXCLUDED.title, " +
+        "description = EXCLUDED.description, semester = EXCLUDED.semester, year = EXCLUDED.year, " +
+        "credits = EXCLUDED.credits, max_students = EXCLUDED.max_students, difficulty_level = EXCLUDED.difficulty_level, " +
+        "is_active = EXCLUDED.is_active, subject_id = EXCLUDED.subject_id, subject_code = EXCLUDED.subject_code, " +
+        "subject_name = EXCLUDED.subject_name, professor_id = EXCLUDED.professor_id, " +
+        "professor_first_name = EXCLUDED.professor_first_name, professor_last_name = EXCLUDED.professor_last_name, " +
+        "enrolled_count = EXCLUDED.enrolled_count, material_count = EXCLUDED.material_count, " +
+        "created_at = EXCLUDED.created_at, updated_at = EXCLUDED.updated_at";
+
+    // Only rows whose content differs are rewritten
+    String IF_CHANGED =
+        " WHERE (course_catalog.code, course_catalog.title, course_catalog.description, course_catalog.semester, " +
+        "course_catalog.year, course_catalog.credits, course_catalog.max_students, course_catalog.difficulty_level, " +
+        "course_catalog.is_active, course_catalog.subject_id, course_catalog.subject_code, course_catalog.subject_name, " +
+        "course_catalog.professor_id, course_catalog.professor_first_name, course_catalog.professor_last_name, " +
+        "course_catalog.enrolled_count, course_catalog.material_count, course_catalog.created_at, course_catalog.updated_at) " +
+        "IS DISTINCT FROM (EXCLUDED.code, EXCLUDED.title, EXCLUDED.description, EXCLUDED.semester, " +
+        "EXCLUDED.year, EXCLUDED.credits, EXCLUDED.max_students, EXCLUDED.difficulty_level, " +
+        "EXCLUDED.is_active, EXCLUDED.subject_id, EXCLUDED.subject_code, EXCLUDED.subject_name, " +
+        "EXCLUDED.professor_id, EXCLUDED.professor_first_name, EXCLUDED.professor_last_name, " +
+        "EXCLUDED.enrolled_count, EXCLUDED.material_count, EXCLUDED.created_at, EXCLUDED.updated_at)";
+
+    List<CourseCatalogEntry> findAllByOrderByCodeAsc();
+
+    List<CourseCatalogEntry> findBySubjectIdOrderByCodeAsc(String subjectId);
+
+    @Modifying
+    @Query(value = UPSERT_SELECT + "WHERE c.id = :courseId" + ON_CONFLICT_UPDATE, nativeQuery = true)
+    int refreshCourse(@Param("courseId") String courseId);
+
+    @Modifying
+    @Query(value = UPSERT_SELECT + "WHERE c.subject_id = :subjectId" + ON_CONFLICT_UPDATE, nativeQuery = true)
+    int refreshSubject(@Param("subjectId") String subjectId);
+
+    /**
+     * Insert missing rows and rewrite rows that differ from the source tables; returns how many changed
+     */
+    @Modifying
+    @Query(value = UPSERT_SELECT + "WHERE TRUE" + ON_CONFLICT_UPDATE + IF_CHANGED, nativeQuery = true)
+    int reconcileAll();
+
+    @Modifying
+    @Query(value = "DELETE FROM course_catalog cc WHERE NOT EXISTS (SELECT 1 FROM courses c WHERE c.id = cc.course_id)", nativeQuery = true)
+    int deleteOrphans();
+
+    @Modifying
+    @Query(value = "UPDATE course_catalog SET enrolled_count = enrolled_count + :delta WHERE course_id = :courseId", nativeQuery = true)
+    int adjustEnrolledCount(@Param("courseId") String courseId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "DELETE FROM course_catalog WHERE course_id = :courseId", nativeQuery = true)
+    int deleteCourse(@Param("courseId") String courseId);
+}
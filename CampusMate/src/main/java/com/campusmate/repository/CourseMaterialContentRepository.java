@@ -0,0 +1,28 @@
+package com.campusmate.repository;
+
+import com.campusmate.entity.CourseMaterialContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for CourseMaterialContent entity
+ */
+@Repository
+public interface CourseMaterialContentRepository extends JpaRepository<CourseMaterialContent, String> {
+
+    // Projection, so the bytes are returned without putting a managed entity in the persistence context
+    @Query("SELECT c.data AS data, c.encoding AS encoding FROM CourseMaterialContent c WHERE c.materialId = :materialId")
+    Optional<StoredContent> findContentByMaterialId(@Param("materialId") String materialId);
+
+    /**
+     * Stored payload of a material, still in its at-rest encoding
+     */
+    interface StoredContent {
+        byte[] getData();
+        String getEncoding();
+    }
+}
@@ -3,6 +3,7 @@ package com.campusmate.repository;
 import com.campusmate.entity.CourseMaterial;
 import com.campusmate.dto.CourseMaterialSummaryDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -21,6 +22,10 @@ public interface CourseMaterialRepository extends JpaRepository<CourseMaterial,
     
     void deleteByCourseId(String courseId);
     
+    @Modifying
+    @Query("DELETE FROM CourseMaterial m WHERE m.id = :id")
+    int deleteMaterialById(@Param("id") String id);
+    
     @Query(value = "SELECT cm.id, cm.title, cm.description, cm.type, cm.file_name, cm.file_size, " +
                    "cm.is_public, cm.created_at, cm.updated_at, " +
                    "CONCAT(u.first_name, ' ', u.last_name) as uploaded_by_name " +
@@ -2,10 +2,13 @@ package com.campusmate.repository;
 
 import com.campusmate.entity.Course;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +28,27 @@ public interface CourseRepository extends JpaRepository<Course, String> {
     
     List<Course> findByYearAndSemester(String year, String semester);
     
-    @Query("SELECT c FROM Course c WHERE c.maxStudents > (SELECT COUNT(e) FROM Enrollment e WHERE e.course.id = c.id)")
+    @Query("SELECT c FROM Course c WHERE c.enrolledCount < c.maxStudents")
     List<Course> findAvailableCourses();
+    
+    /**
+     * Load a course with a row lock; EnrollmentService takes it first, so seat, waitlist and
+     * enrollment decisions for one course are made one at a time
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Course c WHERE c.id = :id")
+    Optional<Course> lockById(@Param("id") String id);
+    
+    /**
+     * Take a seat only if one is free; the row lock makes concurrent registrations queue up
+     * on the course instead of overbooking it. Returns 0 when the course is full or inactive.
+     */
+    @Modifying
+    @Query("UPDATE Course c SET c.enrolledCount = c.enrolledCount + 1 " +
+           "WHERE c.id = :courseId AND c.isActive = true AND c.enrolledCount < c.maxStudents")
+    int tryReserveSeat(@Param("courseId") String courseId);
+    
+    @Modifying
+    @Query("UPDATE Course c SET c.enrolledCount = c.enrolledCount - 1 WHERE c.id = :courseId AND c.enrolledCount > 0")
+    int releaseSeat(@Param("courseId") String courseId);
 }
@@ -0,0 +1,42 @@
+package com.campusmate.repository;
+
+import com.campusmate.entity.CourseWaitlistEntry;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for the course waitlist
+ */
+@Repository
+public interface CourseWaitlistRepository extends JpaRepository<CourseWaitlistEntry, String> {
+
+    Optional<CourseWaitlistEntry> findByCourseIdAndUserId(String courseId, String userId);
+
+    boolean existsByCourseIdAndUserId(String courseId, String userId);
+
+    boolean existsByCourseId(String courseId);
+
+    @EntityGraph(attributePaths = {"course"})
+    List<CourseWaitlistEntry> findByUserIdOrderByQueuedAtAsc(String userId);
+
+    /**
+     * Entries queued strictly before the given one (its 0-based position)
+     */
+    @Query("SELECT COUNT(w) FROM CourseWaitlistEntry w WHERE w.course.id = :courseId AND " +
+           "(w.queuedAt < :queuedAt OR (w.queuedAt = :queuedAt AND w.id < :id))")
+    long countAhead(@Param("courseId") String courseId, @Param("queuedAt") LocalDateTime queuedAt, @Param("id") String id);
+
+    /**
+     * Lock the head of a course's queue; concurrent promotions skip rows another transaction holds
+     */
+    @Query(value = "SELECT * FROM course_waitlist WHERE course_id = :courseId " +
+                   "ORDER BY queued_at, id LIMIT 1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<CourseWaitlistEntry> lockHeadOfQueue(@Param("courseId") String courseId);
+}
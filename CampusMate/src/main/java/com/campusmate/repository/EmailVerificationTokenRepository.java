@@ -17,9 +17,13 @@ public interface EmailVerificationTokenRepository extends JpaRepository<EmailVer
     
     Optional<EmailVerificationToken> findByUserId(String userId);
     
+    /**
+     * Delete up to batchSize expired tokens; callers loop until fewer than batchSize are removed
+     */
     @Modifying
-    @Query("DELETE FROM EmailVerificationToken t WHERE t.expiry < :now")
-    void deleteExpiredTokens(@Param("now") LocalDateTime now);
+    @Query(value = "DELETE FROM email_verification_tokens WHERE id IN ("
+        + "SELECT id FROM email_verification_tokens WHERE expiry < :now LIMIT :batchSize)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
     
     @Modifying
     @Query("DELETE FROM EmailVerificationToken t WHERE t.user.id = :userId")
@@ -0,0 +1,25 @@
+package com.campusmate.repository;
+
+import com.campusmate.entity.Enrollment;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for Enrollment entity
+ */
+@Repository
+public interface EnrollmentRepository extends JpaRepository<Enrollment, String> {
+
+    Optional<Enrollment> findByUserIdAndCourseId(String userId, String courseId);
+
+    boolean existsByUserIdAndCourseIdAndIsActiveTrue(String userId, String courseId);
+
+    @EntityGraph(attributePaths = {"course"})
+    List<Enrollment> findByUserIdAndIsActiveTrueOrderByEnrolledAtDesc(String userId);
+
+    long countByCourseIdAndIsActiveTrue(String courseId);
+}
@@ -0,0 +1,65 @@
+package com.campusmate.repository;
+
+import com.campusmate.entity.Job;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for Job entity
+ */
+@Repository
+public interface JobRepository extends JpaRepository<Job, String> {
+
+    /**
+     * Claim up to limit due jobs of a queue and lease them until lockedUntil.
+     * SKIP LOCKED lets concurrent pollers take disjoint sets instead of queueing on row locks.
+     */
+    @Query(value = "UPDATE jobs SET status = 'RUNNING', attempts = attempts + 1, locked_until = :lockedUntil "
+        + "WHERE id IN (SELECT id FROM jobs WHERE queue = :queue AND status = 'PENDING' AND run_at <= :now "
+        + "ORDER BY run_at LIMIT :limit FOR UPDATE SKIP LOCKED) RETURNING *", nativeQuery = true)
+    List<Job> claim(@Param("queue") String queue, @Param("limit") int limit,
+                    @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * Put jobs whose worker disappeared (lease expired while RUNNING) back in the queue
+     */
+    @Modifying
+    @Query("UPDATE Job j SET j.status = 'PENDING', j.lockedUntil = null WHERE j.status = 'RUNNING' AND j.lockedUntil < :now")
+    int releaseExpiredLeases(@Param("now") LocalDateTime now);
+
+    /**
+     * Delete a finished job, unless its lease lapsed and another claim replaced it
+     */
+    @Modifying
+    @Query("DELETE FROM Job j WHERE j.id = :id AND j.lockedUntil = :lease")
+    int deleteClaimed(@Param("id") String id, @Param("lease") LocalDateTime lease);
+
+    /**
+     * Put a failed job back (or dead-letter it), unless its lease lapsed and another claim replaced it
+     */
+    @Modifying
+    @Query("UPDATE Job j SET j.status = :status, j.runAt = :runAt, j.lockedUntil = null, j.lastError = :error "
+        + "WHERE j.id = :id AND j.lockedUntil = :lease")
+    int reschedule(@Param("id") String id, @Param("lease") LocalDateTime lease, @Param("status") String status,
+                   @Param("runAt") LocalDateTime runAt, @Param("error") String error);
+
+    /**
+     * Reset a dead job so it runs again with a fresh set of attempts
+     */
+    @Modifying
+    @Query("UPDATE Job j SET j.status = 'PENDING', j.attempts = 0, j.runAt = :now WHERE j.id = :id AND j.status = 'DEAD'")
+    int retryDead(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    List<Job> findByStatusOrderByCreatedAtDesc(String status, Pageable pageable);
+
+    // Rows of (queue, status, count)
+    @Query("SELECT j.queue, j.status, COUNT(j) FROM Job j GROUP BY j.queue, j.status")
+    List<Object[]> countByQueueAndStatus();
+}
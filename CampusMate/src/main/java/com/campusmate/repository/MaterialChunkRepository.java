@@ -0,0 +1,24 @@
+package com.campusmate.repository;
+
+import com.campusmate.entity.MaterialChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for MaterialChunk entity
+ */
+@Repository
+public interface MaterialChunkRepository extends JpaRepository<MaterialChunk, MaterialChunk.Key> {
+
+    @Query("SELECT c.chunkIndex FROM MaterialChunk c WHERE c.uploadId = :uploadId ORDER BY c.chunkIndex")
+    List<Integer> findChunkIndexes(@Param("uploadId") String uploadId);
+
+    // One chunk's bytes at a time, never the whole file
+    @Query("SELECT c.data FROM MaterialChunk c WHERE c.uploadId = :uploadId AND c.chunkIndex = :chunkIndex")
+    Optional<byte[]> findData(@Param("uploadId") String uploadId, @Param("chunkIndex") int chunkIndex);
+}
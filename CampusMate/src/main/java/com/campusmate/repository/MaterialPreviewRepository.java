@@ -0,0 +1,37 @@
+package com.campusmate.repository;
+
+import com.campusmate.entity.MaterialPreview;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository interface for MaterialPreview entity
+ */
+@Repository
+public interface MaterialPreviewRepository extends JpaRepository<MaterialPreview, String> {
+
+    @Query("SELECT p.pageCount AS pageCount, p.imageWidth AS imageWidth, p.imageHeight AS imageHeight, "
+        + "p.processedAt AS processedAt, CASE WHEN p.thumbnail IS NOT NULL THEN true ELSE false END AS hasThumbnail, "
+        + "COALESCE(LENGTH(p.extractedText), 0) AS textLength FROM MaterialPreview p WHERE p.materialId = :materialId")
+    Optional<PreviewSummary> findSummary(@Param("materialId") String materialId);
+
+    @Query("SELECT p.thumbnail FROM MaterialPreview p WHERE p.materialId = :materialId AND p.thumbnail IS NOT NULL")
+    Optional<byte[]> findThumbnail(@Param("materialId") String materialId);
+
+    /**
+     * Preview metadata without the thumbnail bytes or the extracted text
+     */
+    interface PreviewSummary {
+        Integer getPageCount();
+        Integer getImageWidth();
+        Integer getImageHeight();
+        LocalDateTime getProcessedAt();
+        Boolean getHasThumbnail();
+        Integer getTextLength();
+    }
+}
@@ -0,0 +1,27 @@
+package com.campusmate.repository;
+
+import com.campusmate.entity.MaterialRendition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for MaterialRendition entity
+ */
+@Repository
+public interface MaterialRenditionRepository extends JpaRepository<MaterialRendition, String> {
+
+    @Query("SELECT r.data AS data, r.contentType AS contentType FROM MaterialRendition r WHERE r.materialId = :materialId")
+    Optional<RenditionContent> findContentByMaterialId(@Param("materialId") String materialId);
+
+    /**
+     * Rendition bytes and their media type
+     */
+    interface RenditionContent {
+        byte[] getData();
+        String getContentType();
+    }
+}
@@ -0,0 +1,40 @@
+package com.campusmate.repository;
+
+import com.campusmate.entity.MaterialUpload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository interface for MaterialUpload entity
+ */
+@Repository
+public interface MaterialUploadRepository extends JpaRepository<MaterialUpload, String> {
+
+    Optional<MaterialUpload> findByMaterialId(String materialId);
+
+    // Serializes completion of one upload, so it can't produce two materials
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM MaterialUpload u WHERE u.id = :id")
+    Optional<MaterialUpload> lockById(@Param("id") String id);
+
+    // Held while a chunk is written: chunks of one upload don't block each other, but completion waits for them
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT u FROM MaterialUpload u WHERE u.id = :id")
+    Optional<MaterialUpload> lockSharedById(@Param("id") String id);
+
+    /**
+     * Delete up to batchSize abandoned uploads; their chunks go with them via ON DELETE CASCADE
+     */
+    @Modifying
+    @Query(value = "DELETE FROM material_uploads WHERE id IN ("
+        + "SELECT id FROM material_uploads WHERE status = 'UPLOADING' AND expires_at < :now LIMIT :batchSize)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+}
@@ -3,11 +3,13 @@ package com.campusmate.repository;
 import com.campusmate.entity.ProjectJoinRequest;
 import com.campusmate.entity.ProjectJoinRequest.RequestStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +19,13 @@ import java.util.Optional;
 @Repository
 public interface ProjectJoinRequestRepository extends JpaRepository<ProjectJoinRequest, String> {
 
+    /**
+     * Load a join request with a row lock, so only one response or cancellation sees it PENDING
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ProjectJoinRequest r WHERE r.id = :id")
+    Optional<ProjectJoinRequest> lockById(@Param("id") String id);
+
     /**
      * Find all join requests for a specific project
      */
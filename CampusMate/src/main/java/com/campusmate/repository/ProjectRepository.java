@@ -1,14 +1,18 @@
 package com.campusmate.repository;
 
 import com.campusmate.entity.Project;
+import com.campusmate.enums.ProjectStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, String> {
@@ -29,11 +33,46 @@ public interface ProjectRepository extends JpaRepository<Project, String> {
     @Query("SELECT p FROM Project p WHERE p.deadline < :deadline")
     List<Project> findProjectsBeforeDeadline(@Param("deadline") LocalDateTime deadline);
     
+    // id, deadline, reminderSentAt of every project still waiting on its deadline (uses idx_project_deadline)
+    @Query("SELECT p.id, p.deadline, p.reminderSentAt FROM Project p WHERE p.status NOT IN :finalStatuses ORDER BY p.deadline")
+    List<Object[]> findPendingDeadlines(@Param("finalStatuses") Collection<ProjectStatus> finalStatuses);
+    
+    // Same, limited to deadlines up to the given time: what other nodes may have written since the startup load
+    @Query("SELECT p.id, p.deadline, p.reminderSentAt FROM Project p WHERE p.status NOT IN :finalStatuses " +
+           "AND p.deadline <= :before ORDER BY p.deadline")
+    List<Object[]> findPendingDeadlinesBefore(@Param("finalStatuses") Collection<ProjectStatus> finalStatuses,
+                                              @Param("before") LocalDateTime before);
+    
+    // remindBy = now + reminder lead, so a stale timer for a deadline that was pushed back does nothing
+    @Modifying
+    @Query("UPDATE Project p SET p.reminderSentAt = :now WHERE p.id = :projectId AND p.reminderSentAt IS NULL " +
+           "AND p.deadline > :now AND p.deadline <= :remindBy AND p.status NOT IN :finalStatuses")
+    int markReminderSent(@Param("projectId") String projectId, @Param("now") LocalDateTime now,
+                         @Param("remindBy") LocalDateTime remindBy,
+                         @Param("finalStatuses") Collection<ProjectStatus> finalStatuses);
+    
+    @Modifying
+    @Query("UPDATE Project p SET p.status = :status, p.updatedAt = :now WHERE p.id = :projectId " +
+           "AND p.deadline <= :now AND p.status NOT IN :finalStatuses")
+    int markDeadlinePassed(@Param("projectId") String projectId, @Param("status") ProjectStatus status,
+                           @Param("now") LocalDateTime now, @Param("finalStatuses") Collection<ProjectStatus> finalStatuses);
+    
     @Query("SELECT p FROM Project p WHERE p.currentMembers < p.maxMembers")
     List<Project> findProjectsWithAvailableSlots();
     
+    @EntityGraph(attributePaths = {"skillsRequired"})
+    @Query("SELECT p FROM Project p WHERE p.status = :status AND p.currentMembers < p.maxMembers")
+    List<Project> findOpenProjectsWithSkills(@Param("status") ProjectStatus status);
+    
     @Query("SELECT p FROM Project p WHERE p.title LIKE %:keyword% OR p.description LIKE %:keyword%")
     List<Project> searchByKeyword(@Param("keyword") String keyword);
     
     List<Project> findBySkillsRequiredContaining(String skill);
+    
+    @Query("SELECT p.pendingRequestCount FROM Project p WHERE p.id = :projectId")
+    Optional<Integer> findPendingRequestCountById(@Param("projectId") String projectId);
+    
+    @Modifying
+    @Query("UPDATE Project p SET p.pendingRequestCount = p.pendingRequestCount + :delta WHERE p.id = :projectId")
+    int adjustPendingRequestCount(@Param("projectId") String projectId, @Param("delta") int delta);
 }
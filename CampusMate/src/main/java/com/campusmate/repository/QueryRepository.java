@@ -5,16 +5,22 @@ import com.campusmate.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface QueryRepository extends JpaRepository<Query, String> {
 
+    // Serializes votes on one query, so no count is lost and their events carry counts in commit order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @org.springframework.data.jpa.repository.Query("SELECT q FROM Query q WHERE q.id = :id")
+    Optional<Query> lockById(@Param("id") String id);
+
     // Find queries by author
     List<Query> findByAuthorOrderByCreatedAtDesc(User author);
     
@@ -0,0 +1,34 @@
+package com.campusmate.repository;
+
+import com.campusmate.entity.RefreshTokenFamily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RefreshTokenFamilyRepository extends JpaRepository<RefreshTokenFamily, String> {
+
+    @Query("SELECT COUNT(f) > 0 FROM RefreshTokenFamily f WHERE f.id = :id AND f.revokedAt IS NOT NULL")
+    boolean isRevoked(@Param("id") String id);
+
+    @Query("SELECT f.id FROM RefreshTokenFamily f WHERE f.revokedAt >= :since AND f.expiresAt > :now")
+    List<String> findIdsRevokedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenFamily f SET f.revokedAt = :now, f.revokeReason = :reason WHERE f.id = :id AND f.revokedAt IS NULL")
+    int revoke(@Param("id") String id, @Param("reason") String reason, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenFamily f SET f.expiresAt = :expiresAt WHERE f.id = :id")
+    int extendExpiry(@Param("id") String id, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token_families WHERE id IN ("
+        + "SELECT id FROM refresh_token_families WHERE expires_at < :now LIMIT :batchSize)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+}
@@ -0,0 +1,30 @@
+package com.campusmate.repository;
+
+import com.campusmate.entity.ScheduledTaskRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for ScheduledTaskRun entity
+ */
+@Repository
+public interface ScheduledTaskRunRepository extends JpaRepository<ScheduledTaskRun, String> {
+
+    // Newest run of every task
+    @Query(value = "SELECT DISTINCT ON (task_name) * FROM scheduled_task_runs ORDER BY task_name, started_at DESC",
+        nativeQuery = true)
+    List<ScheduledTaskRun> findLatestRuns();
+
+    List<ScheduledTaskRun> findTop20ByTaskNameOrderByStartedAtDesc(String taskName);
+
+    @Modifying
+    @Query(value = "DELETE FROM scheduled_task_runs WHERE id IN "
+        + "(SELECT id FROM scheduled_task_runs WHERE started_at < :cutoff LIMIT :batchSize)", nativeQuery = true)
+    int deleteOlderThanBatch(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+}
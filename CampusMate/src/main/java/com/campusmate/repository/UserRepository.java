@@ -5,6 +5,7 @@ import com.campusmate.enums.UserRole;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -37,4 +38,21 @@ public interface UserRepository extends JpaRepository<User, String> {
     
     @Query("SELECT u FROM User u WHERE u.role = :role AND (u.firstName LIKE %:searchTerm% OR u.lastName LIKE %:searchTerm%)")
     Page<User> findByRoleAndSearchTerm(@Param("role") UserRole role, @Param("searchTerm") String searchTerm, Pageable pageable);
+    
+    @Query("SELECT u.isVerified FROM User u WHERE u.email = :email")
+    Optional<Boolean> findIsVerifiedByEmail(@Param("email") String email);
+    
+    @Query("SELECT u.isVerified FROM User u WHERE u.id = :userId")
+    Optional<Boolean> findIsVerifiedById(@Param("userId") String userId);
+    
+    @Query("SELECT u.pendingJoinRequestCount FROM User u WHERE u.email = :email")
+    Optional<Integer> findPendingJoinRequestCountByEmail(@Param("email") String email);
+    
+    @Modifying
+    @Query("UPDATE User u SET u.pendingJoinRequestCount = u.pendingJoinRequestCount + :delta WHERE u.id = :userId")
+    int adjustPendingJoinRequestCount(@Param("userId") String userId, @Param("delta") int delta);
+    
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :userId")
+    int updatePassword(@Param("userId") String userId, @Param("password") String password);
 }
@@ -28,10 +28,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationIndex revocationIndex;
     
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService,
+                                   TokenRevocationIndex revocationIndex) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.revocationIndex = revocationIndex;
     }
 
     @Override
@@ -45,7 +48,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String requestPath = request.getRequestURI();
         if (requestPath.startsWith("/queries") || 
             requestPath.startsWith("/subjects") ||
-            requestPath.startsWith("/actuator") ||
             requestPath.startsWith("/api/v1/auth") ||
             requestPath.startsWith("/api/v1/public")) {
             filterChain.doFilter(request, response);
@@ -68,7 +70,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
                 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                // Tokens from a logged-out or compromised session are rejected; answered from memory
+                String familyId = jwtService.extractFamilyId(jwt);
+                boolean revoked = familyId != null && revocationIndex.isRevoked(familyId);
+                
+                if (!revoked && jwtService.isTokenValid(jwt, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
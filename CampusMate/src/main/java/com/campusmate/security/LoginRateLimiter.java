@@ -0,0 +1,113 @@
+package com.campusmate.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * In-memory token buckets limiting login attempts per client IP and per account.
+ *
+ * Both buckets are checked before any password hashing, so a credential-stuffing burst is
+ * turned away for the price of a map lookup instead of a BCrypt round. Idle buckets expire,
+ * which keeps memory bounded by the number of recently active clients.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Cache<String, TokenBucket> accountBuckets;
+    private final int ipCapacity;
+    private final Duration ipRefillPeriod;
+    private final int accountCapacity;
+    private final Duration accountRefillPeriod;
+    private final MeterRegistry meterRegistry;
+
+    public LoginRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${app.security.login.per-ip.capacity:20}") int ipCapacity,
+                            @Value("${app.security.login.per-ip.refill-period:3s}") Duration ipRefillPeriod,
+                            @Value("${app.security.login.per-account.capacity:5}") int accountCapacity,
+                            @Value("${app.security.login.per-account.refill-period:1m}") Duration accountRefillPeriod) {
+        this.meterRegistry = meterRegistry;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPeriod = ipRefillPeriod;
+        this.accountCapacity = accountCapacity;
+        this.accountRefillPeriod = accountRefillPeriod;
+        // A bucket idle for a full refill is back at capacity, so dropping it loses nothing
+        this.ipBuckets = Caffeine.newBuilder()
+            .expireAfterAccess(ipRefillPeriod.multipliedBy(ipCapacity))
+            .maximumSize(200_000)
+            .build();
+        this.accountBuckets = Caffeine.newBuilder()
+            .expireAfterAccess(accountRefillPeriod.multipliedBy(accountCapacity))
+            .maximumSize(200_000)
+            .build();
+    }
+
+    /**
+     * Take one token from both the IP and the account bucket
+     *
+     * @return zero when the attempt may proceed, otherwise how long the caller should wait
+     */
+    public Duration tryAcquire(String clientIp, String email) {
+        TokenBucket ipBucket = ipBuckets.get(clientIp, key -> new TokenBucket(ipCapacity, ipRefillPeriod));
+        long ipWait = ipBucket.tryConsume();
+        if (ipWait > 0) {
+            reject("ip");
+            return Duration.ofNanos(ipWait);
+        }
+
+        String account = email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+        TokenBucket accountBucket = accountBuckets.get(account, key -> new TokenBucket(accountCapacity, accountRefillPeriod));
+        long accountWait = accountBucket.tryConsume();
+        if (accountWait > 0) {
+            reject("account");
+            return Duration.ofNanos(accountWait);
+        }
+        return Duration.ZERO;
+    }
+
+    private void reject(String limit) {
+        Counter.builder("campusmate.auth.login.rate-limited")
+            .description("Login attempts rejected by a rate limit")
+            .tag("limit", limit)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    /**
+     * Classic token bucket: capacity tokens, one token added per refill period
+     */
+    static final class TokenBucket {
+        private final int capacity;
+        private final long refillNanos;
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(int capacity, Duration refillPeriod) {
+            this.capacity = capacity;
+            this.refillNanos = refillPeriod.toNanos();
+            this.tokens = capacity;
+            this.lastRefill = System.nanoTime();
+        }
+
+        /**
+         * @return 0 if a token was taken, otherwise nanoseconds until the next token
+         */
+        synchronized long tryConsume() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (double) (now - lastRefill) / refillNanos);
+            lastRefill = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) * refillNanos);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.campusmate.security;
+
+import com.campusmate.repository.RefreshTokenFamilyRepository;
+import com.campusmate.util.BloomFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * In-memory index of revoked refresh-token families, consulted for every authenticated request.
+ *
+ * A Bloom filter holds every family revoked within the refresh-token lifetime, so the common
+ * case (not revoked) is answered without touching the database. Only filter hits fall through
+ * to an LRU of confirmed answers and, on a miss there, one primary-key lookup. Revocations made
+ * on other nodes are picked up by polling, and the filter is rebuilt periodically so families
+ * whose tokens have all expired drop out of it.
+ */
+@Component
+public class TokenRevocationIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationIndex.class);
+
+    private final RefreshTokenFamilyRepository familyRepository;
+    private final Cache<String, Boolean> confirmed;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+    private final Duration pollOverlap;
+    private final Counter filterHits;
+    private final Counter databaseLookups;
+
+    private volatile BloomFilter filter;
+    private volatile LocalDateTime lastPoll;
+
+    public TokenRevocationIndex(RefreshTokenFamilyRepository familyRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.security.refresh.revocation.expected-revocations:100000}") int expectedRevocations,
+                                @Value("${app.security.refresh.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                                @Value("${app.security.refresh.revocation.lru-size:10000}") int lruSize,
+                                @Value("${app.security.refresh.revocation.poll-interval:10s}") Duration pollInterval) {
+        this.familyRepository = familyRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        // Re-read a little history each poll so commits that landed just before the previous poll are not missed
+        this.pollOverlap = pollInterval;
+        this.filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+        // Cached "not revoked" answers must not outlive a poll, or a remote revocation could be missed
+        this.confirmed = Caffeine.newBuilder()
+            .maximumSize(lruSize)
+            .expireAfterWrite(pollInterval)
+            .build();
+        this.filterHits = Counter.builder("campusmate.auth.revocation.filter.hits")
+            .description("Revocation checks the Bloom filter could not rule out")
+            .register(meterRegistry);
+        this.databaseLookups = Counter.builder("campusmate.auth.revocation.db.lookups")
+            .description("Revocation checks that had to query the database")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Whether tokens of this family must be rejected
+     */
+    public boolean isRevoked(String familyId) {
+        if (!filter.mightContain(familyId)) {
+            return false;
+        }
+        filterHits.increment();
+        return confirmed.get(familyId, id -> {
+            databaseLookups.increment();
+            return familyRepository.isRevoked(id);
+        });
+    }
+
+    /**
+     * Record a revocation made on this node; call after the revoking transaction committed
+     */
+    public void markRevoked(String familyId) {
+        filter.add(familyId);
+        confirmed.put(familyId, Boolean.TRUE);
+    }
+
+    /**
+     * Load every family revoked within the refresh-token lifetime into a fresh filter
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.security.refresh.revocation.rebuild-interval:1h}",
+               initialDelayString = "${app.security.refresh.revocation.rebuild-interval:1h}")
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> revoked = familyRepository.findIdsRevokedSince(LocalDateTime.of(1970, 1, 1, 0, 0), now);
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, revoked.size() * 2), falsePositiveRate);
+        revoked.forEach(rebuilt::add);
+        filter = rebuilt;
+        lastPoll = now;
+        log.info("Token revocation index rebuilt with {} revoked families", revoked.size());
+    }
+
+    /**
+     * Pick up families revoked on other nodes since the last poll
+     */
+    @Scheduled(fixedDelayString = "${app.security.refresh.revocation.poll-interval:10s}")
+    public void poll() {
+        if (lastPoll == null) {
+            return; // Startup rebuild has not run yet
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<String> revoked = familyRepository.findIdsRevokedSince(lastPoll.minus(pollOverlap), now);
+        BloomFilter current = filter;
+        for (String familyId : revoked) {
+            current.add(familyId);
+            confirmed.invalidate(familyId);
+        }
+        lastPoll = now;
+    }
+}
@@ -0,0 +1,272 @@
+package com.campusmate.service;
+
+import com.campusmate.entity.Course;
+import com.campusmate.entity.CourseMaterial;
+import com.campusmate.entity.MaterialUpload;
+import com.campusmate.entity.User;
+import com.campusmate.enums.MaterialType;
+import com.campusmate.repository.CourseMaterialRepository;
+import com.campusmate.repository.MaterialChunkRepository;
+import com.campusmate.repository.MaterialUploadRepository;
+import com.campusmate.util.Transactions;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Resumable, chunked uploads of large course materials.
+ *
+ * A client opens an upload, PUTs fixed-size chunks in any order (each with a SHA-256
+ * checksum), and completes it once every chunk is in. Chunks stream from the request body
+ * into material_chunks over JDBC, so heap use is bounded by the socket buffer no matter how
+ * large the file is. A chunk whose bytes don't match its checksum is rolled back and can
+ * simply be sent again; a client that lost its connection asks which chunks arrived and
+ * sends the rest.
+ */
+@Service
+public class ChunkedUploadService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChunkedUploadService.class);
+
+    public static final String CONTENT_PREFIX = "chunked://";
+
+    private static final String UPSERT_CHUNK =
+        "INSERT INTO material_chunks (upload_id, chunk_index, size, sha256, data) VALUES (?, ?, ?, ?, ?) " +
+        "ON CONFLICT (upload_id, chunk_index) DO UPDATE SET size = EXCLUDED.size, sha256 = EXCLUDED.sha256, data = EXCLUDED.data";
+
+    public enum ChunkResult { STORED, WRONG_SIZE, CHECKSUM_MISMATCH }
+
+    @Autowired
+    private MaterialUploadRepository uploadRepository;
+
+    @Autowired
+    private MaterialChunkRepository chunkRepository;
+
+    @Autowired
+    private CourseMaterialRepository materialRepository;
+
+    @Autowired
+    private CourseCatalogService courseCatalogService;
+
+    @Autowired
+    private CourseMaterialStorageService storageService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ClusterTaskRunner clusterTaskRunner;
+
+    @Autowired
+    @Lazy
+    private ChunkedUploadService self;
+
+    @Value("${app.materials.upload.chunk-size:8MB}")
+    private DataSize chunkSize;
+
+    @Value("${app.materials.upload.max-size:2GB}")
+    private DataSize maxSize;
+
+    @Value("${app.materials.upload.expiry:24h}")
+    private Duration expiry;
+
+    @Value("${app.materials.upload.cleanup-batch-size:100}")
+    private int cleanupBatchSize;
+
+    /**
+     * Open an upload session for a file of the given size
+     */
+    @Transactional
+    public MaterialUpload startUpload(Course course, User uploader, String title, String description,
+                                      MaterialType type, String fileName, long totalSize) {
+        if (totalSize <= 0) {
+            throw new RuntimeException("File size must be positive");
+        }
+        if (totalSize > maxSize.toBytes()) {
+            throw new RuntimeException("File exceeds the maximum upload size of " + maxSize.toMegabytes() + "MB");
+        }
+
+        int size = (int) chunkSize.toBytes();
+        MaterialUpload upload = new MaterialUpload();
+        upload.setCourse(course);
+        upload.setUploadedBy(uploader);
+        upload.setTitle(title);
+        upload.setDescription(description);
+        upload.setType(type);
+        upload.setFileName(fileName);
+        upload.setTotalSize(totalSize);
+        upload.setChunkSize(size);
+        upload.setChunkCount((int) ((totalSize + size - 1) / size));
+        upload.setExpiresAt(LocalDateTime.now().plus(expiry));
+        MaterialUpload saved = uploadRepository.save(upload);
+        log.info("Started upload {} of {} ({} bytes in {} chunks)", saved.getId(), fileName, totalSize, saved.getChunkCount());
+        return saved;
+    }
+
+    /**
+     * Stream one chunk from the request body into the store, verifying its SHA-256 before commit
+     *
+     * @param sha256Hex  checksum the client computed for the chunk
+     */
+    public ChunkResult storeChunk(String uploadId, int index, String sha256Hex, long contentLength, InputStream body) {
+        MaterialUpload upload = uploadRepository.findById(uploadId)
+            .orElseThrow(() -> new RuntimeException("Upload not found"));
+        if (!MaterialUpload.UPLOADING.equals(upload.getStatus())) {
+            throw new RuntimeException("Upload is already completed");
+        }
+        if (index < 0 || index >= upload.getChunkCount()) {
+            throw new RuntimeException("Chunk index out of range");
+        }
+        long expected = upload.expectedChunkSize(index);
+        if (contentLength >= 0 && contentLength != expected) {
+            return ChunkResult.WRONG_SIZE;
+        }
+
+        DigestInputStream in = new DigestInputStream(body, sha256());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ChunkResult result = transactionTemplate.execute(status -> {
+            // Re-check under a share lock, so complete() either sees this chunk or this chunk sees COMPLETED
+            MaterialUpload locked = uploadRepository.lockSharedById(uploadId)
+                .orElseThrow(() -> new RuntimeException("Upload not found"));
+            if (!MaterialUpload.UPLOADING.equals(locked.getStatus())) {
+                throw new RuntimeException("Upload is already completed");
+            }
+            // The driver reads exactly `expected` bytes from the stream while sending the row
+            jdbcTemplate.update(UPSERT_CHUNK, ps -> {
+                ps.setString(1, uploadId);
+                ps.setInt(2, index);
+                ps.setInt(3, (int) expected);
+                ps.setString(4, sha256Hex.toLowerCase());
+                ps.setBinaryStream(5, in, (int) expected);
+            });
+            try {
+                if (in.read() != -1) {
+                    status.setRollbackOnly();
+                    return ChunkResult.WRONG_SIZE;
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read chunk: " + e.getMessage(), e);
+            }
+            String actual = HexFormat.of().formatHex(in.getMessageDigest().digest());
+            if (!actual.equalsIgnoreCase(sha256Hex)) {
+                // Corrupted in transit: drop it, the client resends this chunk
+                status.setRollbackOnly();
+                return ChunkResult.CHECKSUM_MISMATCH;
+            }
+            return ChunkResult.STORED;
+        });
+        return result != null ? result : ChunkResult.CHECKSUM_MISMATCH;
+    }
+
+    /**
+     * Indexes of the chunks received so far, for resuming
+     */
+    @Transactional(readOnly = true)
+    public List<Integer> getReceivedChunks(String uploadId) {
+        return chunkRepository.findChunkIndexes(uploadId);
+    }
+
+    @Transactional(readOnly = true)
+    public MaterialUpload getUpload(String uploadId) {
+        return uploadRepository.findById(uploadId)
+            .orElseThrow(() -> new RuntimeException("Upload not found"));
+    }
+
+    /**
+     * Turn a fully received upload into a course material; completing twice returns the same material
+     */
+    @Transactional
+    public CourseMaterial complete(String uploadId) {
+        MaterialUpload upload = uploadRepository.lockById(uploadId)
+            .orElseThrow(() -> new RuntimeException("Upload not found"));
+        if (MaterialUpload.COMPLETED.equals(upload.getStatus())) {
+            return (CourseMaterial) Hibernate.unproxy(upload.getMaterial());
+        }
+        int missing = upload.getChunkCount() - chunkRepository.findChunkIndexes(uploadId).size();
+        if (missing > 0) {
+            throw new RuntimeException("Upload is missing " + missing + " chunks");
+        }
+
+        CourseMaterial material = new CourseMaterial();
+        material.setCourse(upload.getCourse());
+        material.setTitle(upload.getTitle());
+        material.setDescription(upload.getDescription());
+        material.setType(upload.getType());
+        material.setFileName(upload.getFileName());
+        material.setFileSize(upload.getTotalSize());
+        material.setFileUrl(CONTENT_PREFIX + uploadId);
+        material.setUploadedBy(upload.getUploadedBy());
+        material.setIsPublic(true);
+        CourseMaterial saved = materialRepository.save(material);
+
+        upload.setMaterial(saved);
+        upload.setStatus(MaterialUpload.COMPLETED);
+        uploadRepository.save(upload);
+        storageService.recordAdded(saved);
+        courseCatalogService.refreshCourse(upload.getCourse().getId());
+        log.info("Upload {} completed as material {}", uploadId, saved.getId());
+        return saved;
+    }
+
+    /**
+     * Write a completed upload's bytes to a stream, one chunk in memory at a time
+     */
+    public void writeContent(String uploadId, OutputStream out) throws IOException {
+        // Through the proxy, so the lookup gets its own read-only transaction
+        MaterialUpload upload = self.getUpload(uploadId);
+        for (int index = 0; index < upload.getChunkCount(); index++) {
+            byte[] data = chunkRepository.findData(uploadId, index)
+                .orElseThrow(() -> new IOException("Material content is incomplete"));
+            out.write(data);
+        }
+    }
+
+    /**
+     * Delete uploads abandoned before completion, in short batches, on one node
+     */
+    @Scheduled(cron = "${app.materials.upload.cleanup-cron:0 15 * * * *}")
+    public void cleanupExpiredUploads() {
+        clusterTaskRunner.run("material-upload-cleanup", this::deleteExpiredUploads);
+    }
+
+    private void deleteExpiredUploads() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = Transactions.deleteInBatches(transactionManager, cleanupBatchSize,
+            () -> uploadRepository.deleteExpiredBatch(now, cleanupBatchSize));
+        if (total > 0) {
+            log.info("Deleted {} abandoned material uploads", total);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.campusmate.service;
+
+import com.campusmate.entity.ScheduledTaskRun;
+import com.campusmate.repository.ScheduledTaskRunRepository;
+import com.campusmate.util.Transactions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs scheduled tasks on exactly one node of the cluster.
+ *
+ * Every node keeps its @Scheduled triggers; when one fires, the task body runs only if this
+ * node wins a Postgres session advisory lock for the task. The lock lives on a dedicated
+ * primary connection held for the run, so the task itself is free to use as many short
+ * transactions as it likes, and a node that dies mid-run releases the lock with its
+ * connection. Each execution is recorded in scheduled_task_runs; the clustertasks actuator
+ * endpoint shows the latest run and the next trigger time of each task.
+ *
+ * The lock alone only keeps runs from overlapping: every node's trigger fires for every slot,
+ * and a node whose trigger fires after another node finished would run the slot again. So,
+ * under the lock, a task that already started within min-gap is skipped. min-gap must be
+ * shorter than the shortest schedule of any cluster task.
+ *
+ * A run holds one pooled connection for its whole duration, so runs longer than Hikari's
+ * leak-detection-threshold log a (harmless) leak warning.
+ */
+@Service
+public class ClusterTaskRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterTaskRunner.class);
+
+    // Two-key advisory locks under their own namespace, apart from single-key locks elsewhere
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_lock(hashtext('scheduled-task'), hashtext(?))";
+    private static final String UNLOCK = "SELECT pg_advisory_unlock(hashtext('scheduled-task'), hashtext(?))";
+    private static final String RAN_SINCE =
+        "SELECT EXISTS (SELECT 1 FROM scheduled_task_runs WHERE task_name = ? AND started_at > ?)";
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource dataSource;
+
+    @Autowired
+    private ScheduledTaskRunRepository runRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.scheduling.history-retention:30d}")
+    private Duration historyRetention;
+
+    @Value("${app.scheduling.cleanup-batch-size:1000}")
+    private int cleanupBatchSize;
+
+    @Value("${app.scheduling.min-gap:1m}")
+    private Duration minGap;
+
+    private final String node = ManagementFactory.getRuntimeMXBean().getName(); // pid@hostname
+
+    // task name -> calling @Scheduled method, e.g. com.campusmate.service.Foo.cleanup
+    private final Map<String, String> taskMethods = new ConcurrentHashMap<>();
+
+    /**
+     * Run a task unless another node is already running it or has just run it
+     *
+     * @return whether this node ran the task
+     */
+    public boolean run(String taskName, Runnable task) {
+        taskMethods.computeIfAbsent(taskName, name -> StackWalker.getInstance()
+            .walk(frames -> frames.skip(1).findFirst())
+            .map(frame -> frame.getClassName() + "." + frame.getMethodName())
+            .orElse(name));
+        try (Connection connection = dataSource.getConnection()) {
+            if (!advisoryLock(connection, TRY_LOCK, taskName)) {
+                log.debug("Skipping {}: running on another node", taskName);
+                Counter.builder("campusmate.scheduling.skipped").tag("task", taskName).register(meterRegistry).increment();
+                return false;
+            }
+            try {
+                // Checked on the lock's primary connection: the previous run's row is committed, a replica may lag
+                if (ranSince(connection, taskName, LocalDateTime.now().minus(minGap))) {
+                    log.debug("Skipping {}: already ran for this slot", taskName);
+                    Counter.builder("campusmate.scheduling.skipped").tag("task", taskName).register(meterRegistry).increment();
+                    return false;
+                }
+                execute(taskName, task);
+            } finally {
+                advisoryLock(connection, UNLOCK, taskName);
+            }
+            return true;
+        } catch (SQLException e) {
+            log.error("Could not acquire the cluster lock for {}: {}", taskName, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Cluster tasks this node has run or skipped so far, by name, with the method that triggers each
+     */
+    public Map<String, String> getTaskMethods() {
+        return Map.copyOf(taskMethods);
+    }
+
+    public String getNode() {
+        return node;
+    }
+
+    /**
+     * Drop run history past the retention window
+     */
+    @Scheduled(cron = "${app.scheduling.history-cleanup-cron:0 45 3 * * *}")
+    public void cleanupHistory() {
+        run("scheduled-task-history-cleanup", () -> {
+            LocalDateTime cutoff = LocalDateTime.now().minus(historyRetention);
+            Transactions.deleteInBatches(transactionManager, cleanupBatchSize,
+                () -> runRepository.deleteOlderThanBatch(cutoff, cleanupBatchSize));
+        });
+    }
+
+    private void execute(String taskName, Runnable task) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        String status = ScheduledTaskRun.SUCCEEDED;
+        String error = null;
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            status = ScheduledTaskRun.FAILED;
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            log.error("Scheduled task {} failed", taskName, e);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        Timer.builder("campusmate.scheduling.task")
+            .description("Executions of cluster-wide scheduled tasks")
+            .tags("task", taskName, "outcome", status.toLowerCase())
+            .register(meterRegistry)
+            .record(Duration.ofNanos(elapsedNanos));
+
+        ScheduledTaskRun run = new ScheduledTaskRun(taskName, node, startedAt, LocalDateTime.now(),
+            elapsedNanos / 1_000_000, status, error);
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(tx -> runRepository.save(run));
+        } catch (RuntimeException e) {
+            log.warn("Could not record run of {}: {}", taskName, e.getMessage());
+        }
+    }
+
+    private static boolean ranSince(Connection connection, String taskName, LocalDateTime since) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(RAN_SINCE)) {
+            statement.setString(1, taskName);
+            statement.setTimestamp(2, Timestamp.valueOf(since));
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql, String taskName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, taskName);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.campusmate.service;
+
+import com.campusmate.entity.CourseCatalogEntry;
+import com.campusmate.repository.CourseCatalogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Maintains the course_catalog read model.
+ *
+ * Course, subject and material writes rebuild only the affected rows; enrollment
+ * changes move enrolled_count by delta in the writer's transaction. Listing the catalog
+ * is then a single scan of course_catalog. A periodic reconcile compares every row with
+ * the source tables and rewrites the ones that drifted, which also covers writes that do
+ * not go through these services (a professor renamed in SQL, a restored backup).
+ */
+@Service
+public class CourseCatalogService {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseCatalogService.class);
+
+    @Autowired
+    private CourseCatalogRepository catalogRepository;
+
+    @Autowired
+    private ClusterTaskRunner clusterTaskRunner;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Bring the catalog in line with the source tables at startup (first start, restored backup)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${app.catalog.reconcile-cron:0 */15 * * * *}")
+    public void reconcilePeriodically() {
+        clusterTaskRunner.run("course-catalog-reconcile", this::reconcile);
+    }
+
+    private void reconcile() {
+        int[] changed = new TransactionTemplate(transactionManager).execute(status ->
+            new int[] {catalogRepository.reconcileAll(), catalogRepository.deleteOrphans()});
+        if (changed != null && (changed[0] > 0 || changed[1] > 0)) {
+            log.info("Course catalog reconciled: {} rows rewritten, {} orphans removed", changed[0], changed[1]);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<CourseCatalogEntry> getCatalog() {
+        return catalogRepository.findAllByOrderByCodeAsc();
+    }
+
+    @Transactional(readOnly = true)
+    public List<CourseCatalogEntry> getCatalogBySubject(String subjectId) {
+        return catalogRepository.findBySubjectIdOrderByCodeAsc(subjectId);
+    }
+
+    @Transactional
+    public void refreshCourse(String courseId) {
+        // Pending entity changes must reach the tables the upsert reads from
+        catalogRepository.flush();
+        catalogRepository.refreshCourse(courseId);
+    }
+
+    @Transactional
+    public void refreshSubject(String subjectId) {
+        catalogRepository.flush();
+        catalogRepository.refreshSubject(subjectId);
+    }
+
+    @Transactional
+    public void removeCourse(String courseId) {
+        catalogRepository.deleteCourse(courseId);
+    }
+
+    @Transactional
+    public void adjustEnrolledCount(String courseId, int delta) {
+        catalogRepository.adjustEnrolledCount(courseId, delta);
+    }
+}
@@ -0,0 +1,192 @@
+package com.campusmate.service;
+
+import com.campusmate.entity.CourseMaterial;
+import com.campusmate.entity.CourseMaterialContent;
+import com.campusmate.repository.CourseMaterialContentRepository.StoredContent;
+import com.campusmate.repository.CourseMaterialRepository;
+import com.campusmate.repository.CourseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams every material of a course as one ZIP archive.
+ *
+ * Entries are written one at a time: each payload is loaded with its own short query,
+ * written and released before the next, so memory stays at one entry and no connection
+ * is held while a slow client drains the response. Formats that are already compressed
+ * are STORED rather than deflated a second time.
+ */
+@Service
+public class CourseMaterialArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseMaterialArchiveService.class);
+
+    // Deflating these again costs CPU for no size gain (docx is itself a ZIP)
+    private static final Set<String> STORED_EXTENSIONS = Set.of("pdf", "png", "jpg", "jpeg", "gif", "docx", "zip", "mp4", "webm", "mov");
+
+    @Autowired
+    private CourseMaterialRepository materialRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CourseMaterialStorageService storageService;
+
+    @Autowired
+    private ChunkedUploadService uploadService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * File name for a course's archive, or empty when there is no such course.
+     * Called before streaming starts; its transaction and connection end when it returns.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> archiveName(String courseId) {
+        return courseRepository.findById(courseId).map(course -> {
+            String code = course.getCode();
+            return (code != null && !code.isBlank() ? code : courseId).replaceAll("[^A-Za-z0-9._-]", "_") + "-materials.zip";
+        });
+    }
+
+    /**
+     * Write the archive to the response stream.
+     *
+     * @throws IOException when the client disconnects; the archive is abandoned at that entry
+     */
+    public void writeArchive(String courseId, OutputStream out) throws IOException {
+        List<CourseMaterial> materials = materialRepository.findByCourseIdOrderByCreatedAtDesc(courseId);
+        Set<String> usedNames = new HashSet<>();
+        int written = 0;
+        try (ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8)) {
+            for (CourseMaterial material : materials) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("Archive download cancelled");
+                }
+                if (writeEntry(zip, material, usedNames)) {
+                    written++;
+                    // Push the entry out now, so a disconnected client is noticed before the next load
+                    zip.flush();
+                }
+            }
+            zip.finish();
+        } catch (IOException e) {
+            meterRegistry.counter("campusmate.materials.archive", "outcome", "cancelled").increment();
+            log.info("Archive download for course {} stopped after {} entries: {}", courseId, written, e.getMessage());
+            throw e;
+        }
+        meterRegistry.counter("campusmate.materials.archive", "outcome", "completed").increment();
+        log.info("Archive for course {} streamed with {} entries", courseId, written);
+    }
+
+    private boolean writeEntry(ZipOutputStream zip, CourseMaterial material, Set<String> usedNames) throws IOException {
+        String fileUrl = material.getFileUrl();
+        if (fileUrl != null && fileUrl.startsWith(ChunkedUploadService.CONTENT_PREFIX)) {
+            // Too large to hold for a CRC up front, so already-compressed files go in as level-0 deflate
+            String name = uniqueName(material.getFileName(), usedNames);
+            boolean store = STORED_EXTENSIONS.contains(extension(name));
+            zip.setLevel(store ? Deflater.NO_COMPRESSION : Deflater.DEFAULT_COMPRESSION);
+            zip.putNextEntry(new ZipEntry(name));
+            uploadService.writeContent(fileUrl.substring(ChunkedUploadService.CONTENT_PREFIX.length()), zip);
+            zip.closeEntry();
+            zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+            return true;
+        }
+
+        boolean isBinary = fileUrl != null && fileUrl.startsWith("binary://");
+        boolean isText = fileUrl != null && fileUrl.startsWith("text://");
+        if (!isBinary && !isText) {
+            return false; // External links have nothing to archive
+        }
+
+        Optional<StoredContent> stored = storageService.loadContent(material.getId());
+        String name = uniqueName(material.getFileName(), usedNames);
+        if (stored.isEmpty()) {
+            if (!isText) {
+                return false;
+            }
+            // Same fallback as the single-file download for text materials without content
+            String text = material.getDescription() != null ? material.getDescription() : material.getTitle();
+            writeBytes(zip, name, text.getBytes(StandardCharsets.UTF_8), false);
+            return true;
+        }
+
+        StoredContent content = stored.get();
+        if (CourseMaterialContent.GZIP.equals(content.getEncoding())) {
+            // Inflate straight into the deflating entry; the plain text never sits in memory whole
+            zip.putNextEntry(new ZipEntry(name));
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(content.getData()))) {
+                in.transferTo(zip);
+            }
+            zip.closeEntry();
+        } else {
+            writeBytes(zip, name, content.getData(), STORED_EXTENSIONS.contains(extension(name)));
+        }
+        return true;
+    }
+
+    private void writeBytes(ZipOutputStream zip, String name, byte[] data, boolean store) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        if (store) {
+            // STORED entries need size and CRC before the data
+            CRC32 crc = new CRC32();
+            crc.update(data);
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(data.length);
+            entry.setCompressedSize(data.length);
+            entry.setCrc(crc.getValue());
+        }
+        zip.putNextEntry(entry);
+        zip.write(data);
+        zip.closeEntry();
+    }
+
+    /**
+     * Flatten a file name into a safe entry name and suffix duplicates: notes.pdf, notes (2).pdf, ...
+     */
+    private String uniqueName(String fileName, Set<String> usedNames) {
+        String base = fileName == null || fileName.isBlank() ? "material" : fileName;
+        base = base.replace('\\', '/');
+        base = base.substring(base.lastIndexOf('/') + 1);
+        if (base.isEmpty() || base.equals(".") || base.equals("..")) {
+            base = "material";
+        }
+
+        String name = base;
+        int dot = base.lastIndexOf('.');
+        String stem = dot > 0 ? base.substring(0, dot) : base;
+        String ext = dot > 0 ? base.substring(dot) : "";
+        for (int n = 2; !usedNames.add(name.toLowerCase(Locale.ROOT)); n++) {
+            name = stem + " (" + n + ")" + ext;
+        }
+        return name;
+    }
+
+    private static String extension(String name) {
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+}
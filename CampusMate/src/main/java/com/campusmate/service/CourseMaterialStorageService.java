@@ -0,0 +1,146 @@
+package com.campusmate.service;
+
+import com.campusmate.entity.CourseMaterial;
+import com.campusmate.entity.CourseMaterialContent;
+import com.campusmate.event.DomainEvent;
+import com.campusmate.repository.CourseMaterialContentRepository;
+import com.campusmate.repository.CourseMaterialContentRepository.StoredContent;
+import com.campusmate.repository.CourseMaterialRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores course material metadata and payloads.
+ *
+ * Payloads live in course_material_contents and are only read by the download path;
+ * everything else works on the metadata row alone. Text is stored gzip-compressed with its
+ * encoding recorded, so clients that accept gzip get the stored bytes without any server work.
+ * Saving also queues the material for MaterialProcessingService in the same transaction.
+ */
+@Service
+public class CourseMaterialStorageService {
+
+    @Autowired
+    private CourseMaterialRepository materialRepository;
+
+    @Autowired
+    private CourseMaterialContentRepository contentRepository;
+
+    @Autowired
+    private JobQueueService jobQueueService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    // Below this, gzip's ~20 byte overhead outweighs what it saves
+    @Value("${app.materials.compression.min-size:256}")
+    private int compressionMinSize;
+
+    /**
+     * Save a material together with its payload (if any) in one transaction
+     */
+    @Transactional
+    public CourseMaterial save(CourseMaterial material, byte[] data) {
+        CourseMaterial saved = materialRepository.save(material);
+        if (data != null) {
+            contentRepository.save(new CourseMaterialContent(saved, data));
+            enqueueProcessing(saved);
+        }
+        recordAdded(saved);
+        return saved;
+    }
+
+    /**
+     * Save a text material, compressing its content when that makes it smaller
+     */
+    @Transactional
+    public CourseMaterial saveText(CourseMaterial material, String text) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        material.setFileSize((long) raw.length);
+        CourseMaterial saved = materialRepository.save(material);
+
+        byte[] data = raw;
+        String encoding = CourseMaterialContent.IDENTITY;
+        if (raw.length >= compressionMinSize) {
+            byte[] compressed = gzip(raw);
+            if (compressed.length < raw.length) {
+                data = compressed;
+                encoding = CourseMaterialContent.GZIP;
+            }
+        }
+        contentRepository.save(new CourseMaterialContent(saved, data, encoding));
+        enqueueProcessing(saved);
+        recordAdded(saved);
+        return saved;
+    }
+
+    /**
+     * Delete a material without loading it; the payload row goes with it via ON DELETE CASCADE
+     */
+    @Transactional
+    public void delete(String materialId) {
+        materialRepository.deleteMaterialById(materialId);
+        outboxService.record(DomainEvent.COURSE_MATERIAL, materialId, "MaterialDeleted");
+    }
+
+    /**
+     * Record a MaterialAdded event in the transaction that created the material
+     */
+    void recordAdded(CourseMaterial material) {
+        outboxService.record(DomainEvent.COURSE_MATERIAL, material.getId(), "MaterialAdded", OutboxService.payload(
+            "courseId", material.getCourse() != null ? material.getCourse().getId() : null,
+            "title", material.getTitle(),
+            "type", material.getType(),
+            "fileSize", material.getFileSize()));
+    }
+
+    /**
+     * Load a material's stored payload in its at-rest encoding
+     */
+    @Transactional(readOnly = true)
+    public Optional<StoredContent> loadContent(String materialId) {
+        return contentRepository.findContentByMaterialId(materialId);
+    }
+
+    /**
+     * Decoded bytes of a stored payload, for clients that cannot take its encoding
+     */
+    public byte[] decode(StoredContent content) {
+        if (!CourseMaterialContent.GZIP.equals(content.getEncoding())) {
+            return content.getData();
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(content.getData()))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress material content", e);
+        }
+    }
+
+    private void enqueueProcessing(CourseMaterial material) {
+        if (MaterialProcessingService.isProcessable(material)) {
+            jobQueueService.enqueue(MaterialProcessingService.QUEUE, material.getId());
+        }
+    }
+
+    private static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 3));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress material content", e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -8,6 +8,7 @@ import com.campusmate.dto.request.CreateCourseRequest;
 import com.campusmate.enums.UserRole;
 import com.campusmate.enums.MaterialType;
 import com.campusmate.enums.DifficultyLevel;
+import com.campusmate.event.DomainEvent;
 import com.campusmate.repository.CourseRepository;
 import com.campusmate.repository.SubjectRepository;
 import com.campusmate.repository.UserRepository;
@@ -36,17 +37,32 @@ public class CourseService {
     @Autowired
     private PasswordEncoder passwordEncoder;
     
+    @Autowired
+    private EnrollmentService enrollmentService;
+    
+    @Autowired
+    private CourseCatalogService courseCatalogService;
+    
+    @Autowired
+    private OutboxService outboxService;
+    
+    @Transactional(readOnly = true)
     public List<Course> getAllCourses() {
         return courseRepository.findAll();
     }
     
+    @Transactional(readOnly = true)
     public Optional<Course> getCourseById(String id) {
         return courseRepository.findById(id);
     }
     
+    @Transactional
     public Course createCourse(Course course) {
         course.setId(UUID.randomUUID().toString());
-        return courseRepository.save(course);
+        Course savedCourse = courseRepository.save(course);
+        courseCatalogService.refreshCourse(savedCourse.getId());
+        recordCourseEvent(savedCourse, "CourseCreated");
+        return savedCourse;
     }
 
     @Transactional
@@ -75,6 +91,9 @@ public class CourseService {
             courseRepository.flush();
             System.out.println("Course flush completed");
 
+            courseCatalogService.refreshCourse(course.getId());
+            recordCourseEvent(course, "CourseCreated");
+
             System.out.println("Course creation completed successfully");
             return course;
         } catch (Exception e) {
@@ -179,6 +198,7 @@ public class CourseService {
             .collect(Collectors.toList());
     }
     
+    @Transactional
     public Course updateCourse(String id, Course courseDetails, String userEmail) {
         // Get current user to check role
         User currentUser = userRepository.findByEmail(userEmail)
@@ -192,15 +212,27 @@ public class CourseService {
         Course course = courseRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Course not found"));
         
+        boolean capacityRaised = courseDetails.getMaxStudents() != null
+            && courseDetails.getMaxStudents() > course.getMaxStudents();
+        
         course.setTitle(courseDetails.getTitle());
         course.setDescription(courseDetails.getDescription());
         course.setCredits(courseDetails.getCredits());
         course.setMaxStudents(courseDetails.getMaxStudents());
         course.setIsActive(courseDetails.getIsActive());
         
-        return courseRepository.save(course);
+        Course savedCourse = courseRepository.save(course);
+        
+        // New seats go to waitlisted students first
+        if (capacityRaised) {
+            enrollmentService.promoteFromWaitlist(id);
+        }
+        courseCatalogService.refreshCourse(id);
+        recordCourseEvent(savedCourse, "CourseUpdated");
+        return savedCourse;
     }
     
+    @Transactional
     public void deleteCourse(String id, String userEmail) {
         // Get current user to check role
         User currentUser = userRepository.findByEmail(userEmail)
@@ -212,24 +244,39 @@ public class CourseService {
         }
         
         courseRepository.deleteById(id);
+        courseCatalogService.removeCourse(id);
+        outboxService.record(DomainEvent.COURSE, id, "CourseDeleted");
+    }
+
+    private void recordCourseEvent(Course course, String eventType) {
+        outboxService.record(DomainEvent.COURSE, course.getId(), eventType, OutboxService.payload(
+            "code", course.getCode(),
+            "title", course.getTitle(),
+            "professorId", course.getProfessor() != null ? course.getProfessor().getId() : null,
+            "isActive", course.getIsActive()));
     }
     
+    @Transactional(readOnly = true)
     public List<Course> getCoursesBySubject(String subjectId) {
         return courseRepository.findBySubjectId(subjectId);
     }
     
+    @Transactional(readOnly = true)
     public List<Course> getCoursesByProfessor(String professorId) {
         return courseRepository.findByProfessorId(professorId);
     }
     
+    @Transactional(readOnly = true)
     public List<Course> getActiveCourses() {
         return courseRepository.findByIsActiveTrue();
     }
     
+    @Transactional(readOnly = true)
     public List<Course> searchCourses(String keyword) {
         return courseRepository.searchByKeyword(keyword);
     }
     
+    @Transactional(readOnly = true)
     public List<Course> getAvailableCourses() {
         return courseRepository.findAvailableCourses();
     }
@@ -0,0 +1,107 @@
+package com.campusmate.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Sends email from the "email" job queue, so SMTP latency and outages never reach a request
+ * thread and a transient failure is retried instead of lost.
+ */
+@Service
+public class EmailJobHandler implements JobHandler<EmailJobHandler.EmailMessage> {
+
+    public static final String QUEUE = "email";
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private JobQueueService jobQueueService;
+
+    /**
+     * Queue a verification email; call inside the transaction that created the token
+     */
+    public void enqueueVerificationEmail(String toEmail, String token, String firstName) {
+        EmailMessage message = new EmailMessage(EmailMessage.VERIFICATION, toEmail, firstName);
+        message.setToken(token);
+        jobQueueService.enqueue(QUEUE, message);
+    }
+
+    /**
+     * Queue a deadline reminder for a project leader
+     */
+    public void enqueueProjectDeadlineReminder(String toEmail, String firstName, String projectTitle, LocalDateTime deadline) {
+        EmailMessage message = new EmailMessage(EmailMessage.PROJECT_DEADLINE_REMINDER, toEmail, firstName);
+        message.setProjectTitle(projectTitle);
+        message.setDeadline(deadline);
+        jobQueueService.enqueue(QUEUE, message);
+    }
+
+    @Override
+    public String getQueue() {
+        return QUEUE;
+    }
+
+    @Override
+    public Class<EmailMessage> getPayloadType() {
+        return EmailMessage.class;
+    }
+
+    @Override
+    public void handle(EmailMessage message) {
+        switch (message.getType()) {
+            case EmailMessage.VERIFICATION:
+                emailService.sendVerificationEmail(message.getTo(), message.getToken(), message.getFirstName());
+                break;
+            case EmailMessage.PROJECT_DEADLINE_REMINDER:
+                emailService.sendProjectDeadlineReminder(message.getTo(), message.getFirstName(),
+                    message.getProjectTitle(), message.getDeadline());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown email type: " + message.getType());
+        }
+    }
+
+    /**
+     * Job payload: which email to send and the values it needs
+     */
+    public static class EmailMessage {
+        public static final String VERIFICATION = "VERIFICATION";
+        public static final String PROJECT_DEADLINE_REMINDER = "PROJECT_DEADLINE_REMINDER";
+
+        private String type;
+        private String to;
+        private String firstName;
+        private String token;
+        private String projectTitle;
+        private LocalDateTime deadline;
+
+        public EmailMessage() {}
+
+        public EmailMessage(String type, String to, String firstName) {
+            this.type = type;
+            this.to = to;
+            this.firstName = firstName;
+        }
+
+        public String getType() { return type; }
+        public void setType(String type) { this.type = type; }
+
+        public String getTo() { return to; }
+        public void setTo(String to) { this.to = to; }
+
+        public String getFirstName() { return firstName; }
+        public void setFirstName(String firstName) { this.firstName = firstName; }
+
+        public String getToken() { return token; }
+        public void setToken(String token) { this.token = token; }
+
+        public String getProjectTitle() { return projectTitle; }
+        public void setProjectTitle(String projectTitle) { this.projectTitle = projectTitle; }
+
+        public LocalDateTime getDeadline() { return deadline; }
+        public void setDeadline(LocalDateTime deadline) { this.deadline = deadline; }
+    }
+}
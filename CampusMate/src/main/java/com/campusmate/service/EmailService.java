@@ -110,4 +110,37 @@ public class EmailService {
             throw new RuntimeException("Failed to send password reset email", e);
         }
     }
+
+    /**
+     * Send project deadline reminder to the project leader
+     */
+    public void sendProjectDeadlineReminder(String toEmail, String firstName, String projectTitle, java.time.LocalDateTime deadline) {
+        try {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom(fromEmail);
+            message.setTo(toEmail);
+            message.setSubject("Project Deadline Approaching - CampusMate");
+            
+            String projectsUrl = frontendUrl + "/projects";
+            
+            String emailBody = String.format(
+                "Hello %s,\n\n" +
+                "This is a reminder that your project \"%s\" is due on %s.\n\n" +
+                "You can review the project here:\n\n" +
+                "%s\n\n" +
+                "Best regards,\n" +
+                "The CampusMate Team",
+                firstName, projectTitle, deadline, projectsUrl
+            );
+            
+            message.setText(emailBody);
+            
+            mailSender.send(message);
+            log.info("Project deadline reminder sent successfully to: {}", toEmail);
+            
+        } catch (Exception e) {
+            log.error("Failed to send project deadline reminder to: {}", toEmail, e);
+            throw new RuntimeException("Failed to send project deadline reminder", e);
+        }
+    }
 }
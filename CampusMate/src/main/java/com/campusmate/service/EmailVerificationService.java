@@ -3,12 +3,18 @@ package com.campusmate.service;
 import com.campusmate.entity.EmailVerificationToken;
 import com.campusmate.entity.User;
 import com.campusmate.repository.EmailVerificationTokenRepository;
+import com.campusmate.repository.UserRepository;
+import com.campusmate.util.Transactions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -17,17 +23,37 @@ import java.util.UUID;
 
 /**
  * Service for handling email verification
+ *
+ * Verification status lives on users.is_verified and is served from a short-lived cache,
+ * so clients polling for a completed verification never touch email_verification_tokens.
  */
 @Service
 public class EmailVerificationService {
 
     private static final Logger log = LoggerFactory.getLogger(EmailVerificationService.class);
 
+    public static final String VERIFICATION_STATUS_CACHE = "verificationStatus";
+
     @Autowired
     private EmailVerificationTokenRepository tokenRepository;
 
     @Autowired
-    private EmailService emailService;
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.email-verification.cleanup-batch-size:1000}")
+    private int cleanupBatchSize;
+
+    @Autowired
+    private EmailJobHandler emailJobHandler;
+
+    @Autowired
+    private ClusterTaskRunner clusterTaskRunner;
 
     @Value("${spring.mail.username:}")
     private String mailUsername;
@@ -85,6 +111,7 @@ public class EmailVerificationService {
         // Activate user
         User user = verificationToken.getUser();
         user.setIsVerified(true);
+        evictVerificationStatus(user.getEmail());
         
         log.info("Email verified successfully for user: {}", user.getEmail());
         return true;
@@ -96,29 +123,55 @@ public class EmailVerificationService {
     @Transactional
     public void resendVerificationEmail(User user) {
         String token = generateVerificationToken(user);
-        emailService.sendVerificationEmail(user.getEmail(), token, user.getFirstName());
-        log.info("Verification email resent to user: {}", user.getEmail());
+        emailJobHandler.enqueueVerificationEmail(user.getEmail(), token, user.getFirstName());
+        log.info("Verification email queued for user: {}", user.getEmail());
     }
 
     /**
-     * Clean up expired tokens (runs every hour)
+     * Clean up expired tokens (runs every hour, on one node)
+     *
+     * Deletes in short batches, each in its own transaction, so no single statement holds
+     * row locks on the whole expired backlog.
      */
-    @Scheduled(fixedRate = 3600000) // 1 hour
-    @Transactional
+    @Scheduled(cron = "${app.email-verification.cleanup-cron:0 0 * * * *}")
     public void cleanupExpiredTokens() {
-        try {
-            tokenRepository.deleteExpiredTokens(LocalDateTime.now());
-            log.info("Cleaned up expired verification tokens");
-        } catch (Exception e) {
-            log.error("Error cleaning up expired tokens", e);
-        }
+        clusterTaskRunner.run("verification-token-cleanup", this::deleteExpiredTokens);
+    }
+
+    // Failures propagate so the runner records the run as FAILED
+    private void deleteExpiredTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = Transactions.deleteInBatches(transactionManager, cleanupBatchSize,
+            () -> tokenRepository.deleteExpiredBatch(now, cleanupBatchSize));
+        log.info("Cleaned up {} expired verification tokens", total);
     }
 
     /**
      * Check if user is verified
      */
+    @Transactional(readOnly = true)
     public boolean isUserVerified(String userId) {
-        Optional<EmailVerificationToken> tokenOpt = tokenRepository.findByUserId(userId);
-        return tokenOpt.isPresent() && tokenOpt.get().getUser().getIsVerified();
+        return userRepository.findIsVerifiedById(userId).orElse(false);
+    }
+
+    /**
+     * Verification status by email, or null when no such user exists
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = VERIFICATION_STATUS_CACHE, key = "#email", unless = "#result == null")
+    public Boolean getVerificationStatus(String email) {
+        return userRepository.findIsVerifiedByEmail(email).orElse(null);
+    }
+
+    /**
+     * Drop the cached status once the verifying transaction has committed
+     */
+    private void evictVerificationStatus(String email) {
+        Transactions.afterCommit(() -> {
+            Cache cache = cacheManager.getCache(VERIFICATION_STATUS_CACHE);
+            if (cache != null) {
+                cache.evict(email);
+            }
+        });
     }
 }
@@ -0,0 +1,204 @@
+package com.campusmate.service;
+
+import com.campusmate.dto.response.EnrollmentResponseDto;
+import com.campusmate.entity.Course;
+import com.campusmate.entity.CourseWaitlistEntry;
+import com.campusmate.entity.Enrollment;
+import com.campusmate.entity.User;
+import com.campusmate.repository.CourseRepository;
+import com.campusmate.repository.CourseWaitlistRepository;
+import com.campusmate.repository.EnrollmentRepository;
+import com.campusmate.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service for course registration.
+ *
+ * Seats are taken with a conditional UPDATE on courses.enrolled_count, so capacity holds
+ * under any number of concurrent registrations without counting enrollments. When a course
+ * is full students join a first-come-first-served waitlist; a freed seat is handed straight
+ * to the head of the queue in the same transaction. Every operation first locks the course
+ * row, so a newcomer only takes a seat directly when nobody is queued, and a drop racing a
+ * waitlist insert sees the new entry.
+ */
+@Service
+public class EnrollmentService {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentService.class);
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private CourseWaitlistRepository waitlistRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseCatalogService courseCatalogService;
+
+    /**
+     * Enroll in a course, or join its waitlist when it is full
+     */
+    @Transactional
+    public EnrollmentResponseDto enroll(String courseId, String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        // Everything below is decided under the course lock, retries of the same request included
+        Course course = courseRepository.lockById(courseId)
+            .orElseThrow(() -> new RuntimeException("Course not found"));
+
+        if (!Boolean.TRUE.equals(course.getIsActive())) {
+            throw new RuntimeException("Course is not open for enrollment");
+        }
+        if (enrollmentRepository.existsByUserIdAndCourseIdAndIsActiveTrue(user.getId(), courseId)) {
+            throw new RuntimeException("User is already enrolled in this course");
+        }
+        Optional<CourseWaitlistEntry> existingEntry = waitlistRepository.findByCourseIdAndUserId(courseId, user.getId());
+        if (existingEntry.isPresent()) {
+            return toWaitlistDto(existingEntry.get(), course);
+        }
+
+        // Queued students get freed seats first, so only take one directly when nobody is waiting
+        if (!waitlistRepository.existsByCourseId(courseId) && courseRepository.tryReserveSeat(courseId) == 1) {
+            courseCatalogService.adjustEnrolledCount(courseId, 1);
+            Enrollment enrollment = activateEnrollment(user, course);
+            log.info("User {} enrolled in course {}", user.getId(), courseId);
+            return toEnrollmentDto(enrollment, course);
+        }
+
+        CourseWaitlistEntry entry = waitlistRepository.save(new CourseWaitlistEntry(course, user));
+        log.info("Course {} is full, user {} added to waitlist", courseId, user.getId());
+        return toWaitlistDto(entry, course);
+    }
+
+    /**
+     * Drop a course; the seat goes to the head of the waitlist if anyone is queued
+     */
+    @Transactional
+    public void drop(String courseId, String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        lockCourse(courseId);
+        Enrollment enrollment = enrollmentRepository.findByUserIdAndCourseId(user.getId(), courseId)
+            .filter(Enrollment::getIsActive)
+            .orElseThrow(() -> new RuntimeException("User is not enrolled in this course"));
+
+        enrollment.setIsActive(false);
+        enrollmentRepository.save(enrollment);
+
+        Optional<CourseWaitlistEntry> head = waitlistRepository.lockHeadOfQueue(courseId);
+        if (head.isPresent()) {
+            // Seat changes hands, enrolled_count stays the same
+            promote(head.get());
+        } else {
+            courseRepository.releaseSeat(courseId);
+            courseCatalogService.adjustEnrolledCount(courseId, -1);
+        }
+        log.info("User {} dropped course {}", user.getId(), courseId);
+    }
+
+    /**
+     * Leave a course waitlist
+     */
+    @Transactional
+    public void leaveWaitlist(String courseId, String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        CourseWaitlistEntry entry = waitlistRepository.findByCourseIdAndUserId(courseId, user.getId())
+            .orElseThrow(() -> new RuntimeException("User is not on the waitlist for this course"));
+        waitlistRepository.delete(entry);
+    }
+
+    /**
+     * Fill newly opened seats (e.g. after maxStudents was raised) from the waitlist, in queue order
+     */
+    @Transactional
+    public int promoteFromWaitlist(String courseId) {
+        lockCourse(courseId);
+        int promoted = 0;
+        while (true) {
+            Optional<CourseWaitlistEntry> head = waitlistRepository.lockHeadOfQueue(courseId);
+            if (head.isEmpty() || courseRepository.tryReserveSeat(courseId) == 0) {
+                break;
+            }
+            promote(head.get());
+            promoted++;
+        }
+        if (promoted > 0) {
+            courseCatalogService.adjustEnrolledCount(courseId, promoted);
+            log.info("Promoted {} waitlisted students into course {}", promoted, courseId);
+        }
+        return promoted;
+    }
+
+    /**
+     * Get a user's enrollments followed by their waitlist entries
+     */
+    @Transactional(readOnly = true)
+    public List<EnrollmentResponseDto> getUserEnrollments(String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+
+        List<EnrollmentResponseDto> result = new ArrayList<>();
+        for (Enrollment enrollment : enrollmentRepository.findByUserIdAndIsActiveTrueOrderByEnrolledAtDesc(user.getId())) {
+            result.add(toEnrollmentDto(enrollment, enrollment.getCourse()));
+        }
+        for (CourseWaitlistEntry entry : waitlistRepository.findByUserIdOrderByQueuedAtAsc(user.getId())) {
+            result.add(toWaitlistDto(entry, entry.getCourse()));
+        }
+        return result;
+    }
+
+    private void promote(CourseWaitlistEntry entry) {
+        activateEnrollment(entry.getUser(), entry.getCourse());
+        waitlistRepository.delete(entry);
+        log.info("User {} promoted from waitlist into course {}", entry.getUser().getId(), entry.getCourse().getId());
+    }
+
+    private void lockCourse(String courseId) {
+        courseRepository.lockById(courseId)
+            .orElseThrow(() -> new RuntimeException("Course not found"));
+    }
+
+    // Idempotent: an enrollment that is already active is returned unchanged
+    private Enrollment activateEnrollment(User user, Course course) {
+        // Re-enrolling reuses the row, (user_id, course_id) is unique
+        Enrollment enrollment = enrollmentRepository.findByUserIdAndCourseId(user.getId(), course.getId())
+            .orElseGet(() -> new Enrollment(user, course));
+        if (Boolean.TRUE.equals(enrollment.getIsActive()) && enrollment.getId() != null) {
+            return enrollment;
+        }
+        if (enrollment.getId() != null) {
+            enrollment.setIsActive(true);
+            enrollment.setEnrolledAt(LocalDateTime.now());
+            enrollment.setCompletedAt(null);
+            enrollment.setGrade(null);
+        }
+        return enrollmentRepository.save(enrollment);
+    }
+
+    private EnrollmentResponseDto toEnrollmentDto(Enrollment enrollment, Course course) {
+        return new EnrollmentResponseDto(course.getId(), course.getCode(), course.getTitle(),
+            EnrollmentResponseDto.ENROLLED, null, enrollment.getEnrolledAt());
+    }
+
+    private EnrollmentResponseDto toWaitlistDto(CourseWaitlistEntry entry, Course course) {
+        long ahead = waitlistRepository.countAhead(course.getId(), entry.getQueuedAt(), entry.getId());
+        return new EnrollmentResponseDto(course.getId(), course.getCode(), course.getTitle(),
+            EnrollmentResponseDto.WAITLISTED, ahead + 1, null);
+    }
+}
@@ -0,0 +1,20 @@
+package com.campusmate.service;
+
+/**
+ * Handler for one job queue. Every handler bean gets its own pool in JobWorker, sized and
+ * retried according to app.jobs.queues.&lt;queue&gt; (falling back to app.jobs.defaults).
+ *
+ * Payloads are stored as JSON and bound to getPayloadType(); String payloads are stored as-is.
+ * A job may run more than once (a lease can lapse mid-run), so handlers must be idempotent.
+ */
+public interface JobHandler<T> {
+
+    String getQueue();
+
+    Class<T> getPayloadType();
+
+    /**
+     * Process one job; throwing schedules a retry, or dead-letters the job after max-attempts
+     */
+    void handle(T payload) throws Exception;
+}
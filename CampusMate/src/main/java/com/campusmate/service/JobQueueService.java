@@ -0,0 +1,84 @@
+package com.campusmate.service;
+
+import com.campusmate.entity.Job;
+import com.campusmate.repository.JobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Enqueues background jobs and manages the dead-letter queue.
+ *
+ * Enqueueing joins the caller's transaction, so a job exists exactly when the change that
+ * asked for it commits: no job for a rolled-back write, and no lost job after a crash.
+ */
+@Service
+public class JobQueueService {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Queue a job to run as soon as a worker is free
+     */
+    @Transactional
+    public Job enqueue(String queue, Object payload) {
+        return enqueue(queue, payload, null);
+    }
+
+    /**
+     * Queue a job to run no earlier than runAt
+     */
+    @Transactional
+    public Job enqueue(String queue, Object payload, LocalDateTime runAt) {
+        Job job = new Job(queue, serialize(payload));
+        job.setRunAt(runAt);
+        return jobRepository.save(job);
+    }
+
+    /**
+     * Most recent dead-lettered jobs
+     */
+    @Transactional(readOnly = true)
+    public List<Job> getDeadJobs(int limit) {
+        return jobRepository.findByStatusOrderByCreatedAtDesc(Job.DEAD, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Put a dead job back in its queue with a fresh set of attempts
+     */
+    @Transactional
+    public boolean retryDead(String jobId) {
+        return jobRepository.retryDead(jobId, LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * Bind a stored payload to a handler's payload type
+     */
+    <T> T deserialize(String payload, Class<T> type) throws JsonProcessingException {
+        if (type == String.class) {
+            return type.cast(payload);
+        }
+        return objectMapper.readValue(payload, type);
+    }
+
+    private String serialize(Object payload) {
+        if (payload == null || payload instanceof String) {
+            return (String) payload;
+        }
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize job payload: " + e.getMessage(), e);
+        }
+    }
+}
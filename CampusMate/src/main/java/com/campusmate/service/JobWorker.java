@@ -0,0 +1,240 @@
+package com.campusmate.service;
+
+import com.campusmate.entity.Job;
+import com.campusmate.repository.JobRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * Runs every JobHandler's queue on a fixed pool of its own.
+ *
+ * Each poll claims at most as many jobs per queue as that queue has idle workers, so claimed
+ * jobs never wait in a local backlog holding a lease, a slow queue can't starve the others,
+ * and other nodes pick up whatever this one can't take. Failures are retried with
+ * exponential backoff and jitter; a job that runs out of attempts is marked DEAD and stays
+ * in the table until an admin retries it. A worker only deletes or reschedules a job while
+ * the lease it claimed is still the job's lease, so a run that outlives its lease leaves the
+ * job to whoever claimed it next.
+ */
+@Component
+public class JobWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(JobWorker.class);
+
+    private static final List<String> STATUSES = List.of(Job.PENDING, Job.RUNNING, Job.DEAD);
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobQueueService jobQueueService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private List<JobHandler<?>> handlers;
+
+    private final Map<String, QueueRunner> queues = new LinkedHashMap<>();
+
+    // queue -> status -> job count, refreshed on a timer for the depth gauges
+    private final Map<String, Map<String, Long>> depth = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void start() {
+        for (JobHandler<?> handler : handlers) {
+            String queue = handler.getQueue();
+            QueueRunner runner = new QueueRunner(handler,
+                setting(queue, "concurrency", Integer.class, 2),
+                setting(queue, "max-attempts", Integer.class, 5),
+                setting(queue, "backoff", Duration.class, Duration.ofSeconds(30)),
+                setting(queue, "max-backoff", Duration.class, Duration.ofHours(1)),
+                setting(queue, "lease", Duration.class, Duration.ofMinutes(5)));
+            queues.put(queue, runner);
+
+            Gauge.builder("campusmate.jobs.active", runner, r -> r.concurrency - r.idleWorkers.availablePermits())
+                .description("Jobs currently running on this node")
+                .tag("queue", queue)
+                .register(meterRegistry);
+            for (String status : STATUSES) {
+                Gauge.builder("campusmate.jobs.depth", depth, d -> d.getOrDefault(queue, Map.of()).getOrDefault(status, 0L))
+                    .description("Jobs in the queue table by status")
+                    .tags("queue", queue, "status", status)
+                    .register(meterRegistry);
+            }
+            log.info("Job queue '{}' running with {} workers", queue, runner.concurrency);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.poll-interval:1s}")
+    public void poll() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> jobRepository.releaseExpiredLeases(now));
+
+        for (QueueRunner runner : queues.values()) {
+            int idle = runner.idleWorkers.availablePermits();
+            if (idle == 0) {
+                continue;
+            }
+            List<Job> jobs = transactionTemplate.execute(status ->
+                jobRepository.claim(runner.handler.getQueue(), idle, now, now.plus(runner.lease)));
+            if (jobs == null) {
+                continue;
+            }
+            for (Job job : jobs) {
+                runner.idleWorkers.acquireUninterruptibly();
+                runner.executor.execute(() -> run(runner, job));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.metrics-interval:30s}")
+    public void refreshDepth() {
+        Map<String, Map<String, Long>> counts = new HashMap<>();
+        for (Object[] row : jobRepository.countByQueueAndStatus()) {
+            counts.computeIfAbsent((String) row[0], q -> new HashMap<>()).put((String) row[1], (Long) row[2]);
+        }
+        depth.keySet().retainAll(counts.keySet());
+        depth.putAll(counts);
+    }
+
+    private <T> void run(QueueRunner runner, Job job) {
+        @SuppressWarnings("unchecked")
+        JobHandler<T> handler = (JobHandler<T>) runner.handler;
+        String queue = handler.getQueue();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            if (job.getAttempts() > runner.maxAttempts) {
+                // Its leases kept lapsing, e.g. the job takes the node down every time
+                throw new IllegalStateException("Lease expired on every attempt");
+            }
+            handler.handle(jobQueueService.deserialize(job.getPayload(), handler.getPayloadType()));
+            if (!stillLeased(job, () -> jobRepository.deleteClaimed(job.getId(), job.getLockedUntil()))) {
+                outcome = "lost";
+            }
+        } catch (Exception e) {
+            boolean dead = job.getAttempts() >= runner.maxAttempts;
+            String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            LocalDateTime runAt = LocalDateTime.now().plus(runner.backoff(job.getAttempts()));
+            if (!stillLeased(job, () -> jobRepository.reschedule(job.getId(), job.getLockedUntil(),
+                    dead ? Job.DEAD : Job.PENDING, runAt, error))) {
+                outcome = "lost";
+            } else if (dead) {
+                outcome = "dead";
+                log.error("Job {} on queue {} failed {} times and was dead-lettered: {}", job.getId(), queue, job.getAttempts(), error);
+            } else {
+                outcome = "retry";
+                log.warn("Job {} on queue {} failed (attempt {}/{}), retrying at {}: {}",
+                    job.getId(), queue, job.getAttempts(), runner.maxAttempts, runAt, error);
+            }
+        } finally {
+            sample.stop(meterRegistry.timer("campusmate.jobs.duration", "queue", queue, "outcome", outcome));
+            runner.idleWorkers.release();
+        }
+    }
+
+    /**
+     * Run a completion write guarded by the job's claimed lease; false when it matched nothing
+     */
+    private boolean stillLeased(Job job, IntSupplier write) {
+        Integer updated = new TransactionTemplate(transactionManager).execute(status -> write.getAsInt());
+        if (updated != null && updated > 0) {
+            return true;
+        }
+        log.warn("Job {} on queue {} outlived its lease and was claimed again, leaving it to the new owner",
+            job.getId(), job.getQueue());
+        return false;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        List<ThreadPoolExecutor> executors = new ArrayList<>();
+        for (QueueRunner runner : queues.values()) {
+            runner.executor.shutdown();
+            executors.add(runner.executor);
+        }
+        // Unfinished jobs keep their lease and are picked up again once it lapses
+        for (ThreadPoolExecutor executor : executors) {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private <V> V setting(String queue, String name, Class<V> type, V fallback) {
+        V defaultValue = environment.getProperty("app.jobs.defaults." + name, type, fallback);
+        return environment.getProperty("app.jobs.queues." + queue + "." + name, type, defaultValue);
+    }
+
+    private static final class QueueRunner {
+        final JobHandler<?> handler;
+        final int concurrency;
+        final int maxAttempts;
+        final Duration baseBackoff;
+        final Duration maxBackoff;
+        final Duration lease;
+        final Semaphore idleWorkers;
+        final ThreadPoolExecutor executor;
+
+        QueueRunner(JobHandler<?> handler, int concurrency, int maxAttempts,
+                    Duration baseBackoff, Duration maxBackoff, Duration lease) {
+            this.handler = handler;
+            this.concurrency = concurrency;
+            this.maxAttempts = maxAttempts;
+            this.baseBackoff = baseBackoff;
+            this.maxBackoff = maxBackoff;
+            this.lease = lease;
+            this.idleWorkers = new Semaphore(concurrency);
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "job-" + handler.getQueue() + "-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        }
+
+        /**
+         * base * 2^(attempt-1), capped, with equal jitter so retries from one outage spread out
+         */
+        Duration backoff(int attempt) {
+            long base = baseBackoff.toMillis() << Math.min(Math.max(attempt - 1, 0), 20);
+            long capped = Math.min(base, maxBackoff.toMillis());
+            return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+        }
+    }
+}
@@ -15,6 +15,7 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
@@ -34,6 +35,9 @@ public class JwtService {
     @Value("${spring.security.jwt.refresh-expiration}")
     private long refreshExpiration;
 
+    // Claim linking access and refresh tokens to their refresh-token family
+    public static final String FAMILY_CLAIM = "fid";
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -55,6 +59,37 @@ public class JwtService {
         return buildToken(new HashMap<>(), userDetails, refreshExpiration);
     }
 
+    /**
+     * Access token bound to a refresh-token family, so revoking the family also rejects it
+     */
+    public String generateToken(UserDetails userDetails, String familyId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(FAMILY_CLAIM, familyId);
+        return generateToken(claims, userDetails);
+    }
+
+    /**
+     * Refresh token in a family; the random jti keeps every token in a family distinct
+     */
+    public String generateRefreshToken(UserDetails userDetails, String familyId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(FAMILY_CLAIM, familyId);
+        claims.put(Claims.ID, UUID.randomUUID().toString());
+        return buildToken(claims, userDetails, refreshExpiration);
+    }
+
+    public String extractFamilyId(String token) {
+        return extractClaim(token, claims -> claims.get(FAMILY_CLAIM, String.class));
+    }
+
+    public long getAccessTokenExpiration() {
+        return jwtExpiration;
+    }
+
+    public long getRefreshTokenExpiration() {
+        return refreshExpiration;
+    }
+
     private String buildToken(
             Map<String, Object> extraClaims,
             UserDetails userDetails,
@@ -0,0 +1,296 @@
+package com.campusmate.service;
+
+import com.campusmate.entity.CourseMaterial;
+import com.campusmate.entity.MaterialPreview;
+import com.campusmate.entity.MaterialRendition;
+import com.campusmate.repository.CourseMaterialContentRepository.StoredContent;
+import com.campusmate.repository.CourseMaterialRepository;
+import com.campusmate.repository.MaterialPreviewRepository;
+import com.campusmate.repository.MaterialRenditionRepository;
+import com.campusmate.util.ImageScaler;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Derives previews from stored materials: image thumbnails and dimensions, PDF page counts,
+ * first-page thumbnails and text, and plain text from DOCX and text materials for search.
+ * Large still images also get a web-sized rendition that downloads serve by default.
+ *
+ * Work is queued as a job in the same transaction that saves the material and run by
+ * JobWorker on the material-processing queue, so uploads never wait for it. The CPU-heavy part runs outside
+ * any transaction; the payload is read and the result written in short transactions of
+ * their own. Chunked uploads (videos) are not processed.
+ */
+@Service
+public class MaterialProcessingService implements JobHandler<String> {
+
+    private static final Logger log = LoggerFactory.getLogger(MaterialProcessingService.class);
+
+    public static final String QUEUE = "material-processing";
+
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("png", "jpg", "jpeg", "gif");
+    private static final Set<String> PROCESSED_EXTENSIONS = Set.of("png", "jpg", "jpeg", "gif", "pdf", "docx", "txt");
+
+    @Autowired
+    private CourseMaterialRepository materialRepository;
+
+    @Autowired
+    private CourseMaterialStorageService storageService;
+
+    @Autowired
+    private MaterialPreviewRepository previewRepository;
+
+    @Autowired
+    private MaterialRenditionRepository renditionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.materials.processing.thumbnail-size:320}")
+    private int thumbnailSize;
+
+    @Value("${app.materials.processing.max-text-length:200000}")
+    private int maxTextLength;
+
+    @Value("${app.materials.processing.max-image-pixels:100000000}")
+    private long maxImagePixels;
+
+    @Value("${app.materials.rendition.max-dimension:2048}")
+    private int renditionMaxDimension;
+
+    @Value("${app.materials.rendition.quality:0.85}")
+    private float renditionQuality;
+
+    // Keep a rendition only if it is at least this much smaller than the original
+    @Value("${app.materials.rendition.min-savings:0.2}")
+    private double renditionMinSavings;
+
+    /**
+     * Whether a material has anything to extract
+     */
+    public static boolean isProcessable(CourseMaterial material) {
+        return isText(material) || PROCESSED_EXTENSIONS.contains(extension(material.getFileName()));
+    }
+
+    @Override
+    public String getQueue() {
+        return QUEUE;
+    }
+
+    @Override
+    public Class<String> getPayloadType() {
+        return String.class;
+    }
+
+    @Override
+    public void handle(String materialId) throws IOException {
+        process(materialId);
+    }
+
+    /**
+     * Build and store the preview for one material
+     *
+     * @throws IOException when the payload can't be parsed; the job is retried and eventually failed
+     */
+    public void process(String materialId) throws IOException {
+        // Not read-only: the job can be claimed before a replica has the new material
+        Loaded loaded = new TransactionTemplate(transactionManager).execute(status -> materialRepository.findById(materialId)
+            .flatMap(material -> storageService.loadContent(materialId)
+                .map(content -> new Loaded(material, storageService.decode(content))))
+            .orElse(null));
+        if (loaded == null) {
+            return; // Deleted before we got to it
+        }
+        CourseMaterial material = loaded.material;
+        byte[] data = loaded.data;
+
+        MaterialPreview preview = new MaterialPreview();
+        MaterialRendition rendition = null;
+        String extension = extension(material.getFileName());
+        if (isText(material) || extension.equals("txt")) {
+            preview.setExtractedText(truncate(new String(data, StandardCharsets.UTF_8)));
+        } else if (IMAGE_EXTENSIONS.contains(extension)) {
+            // Decode once at rendition size; the thumbnail is resampled from that
+            ImageScaler.Scaled scaled = ImageScaler.read(data, renditionMaxDimension, maxImagePixels, true);
+            preview.setImageWidth(scaled.getSourceWidth());
+            preview.setImageHeight(scaled.getSourceHeight());
+            preview.setThumbnail(ImageScaler.toJpeg(ImageScaler.fit(scaled.getImage(), thumbnailSize), 0.8f));
+            // GIFs may be animated, a still rendition would lose that
+            if (!extension.equals("gif")) {
+                rendition = createRendition(scaled, data.length);
+            }
+        } else if (extension.equals("pdf")) {
+            processPdf(data, preview);
+        } else if (extension.equals("docx")) {
+            preview.setExtractedText(truncate(extractDocxText(data)));
+        }
+        preview.setProcessedAt(LocalDateTime.now());
+
+        MaterialRendition finalRendition = rendition;
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Optional<CourseMaterial> current = materialRepository.findById(materialId);
+            if (current.isEmpty()) {
+                return;
+            }
+            MaterialPreview target = previewRepository.findById(materialId)
+                .orElseGet(() -> new MaterialPreview(current.get()));
+            target.setThumbnail(preview.getThumbnail());
+            target.setExtractedText(preview.getExtractedText());
+            target.setPageCount(preview.getPageCount());
+            target.setImageWidth(preview.getImageWidth());
+            target.setImageHeight(preview.getImageHeight());
+            target.setProcessedAt(preview.getProcessedAt());
+            previewRepository.save(target);
+            if (finalRendition != null) {
+                MaterialRendition stored = renditionRepository.findById(materialId)
+                    .orElseGet(() -> new MaterialRendition(current.get()));
+                stored.setData(finalRendition.getData());
+                stored.setContentType(finalRendition.getContentType());
+                stored.setWidth(finalRendition.getWidth());
+                stored.setHeight(finalRendition.getHeight());
+                stored.setCreatedAt(LocalDateTime.now());
+                renditionRepository.save(stored);
+            }
+        });
+        log.info("Processed material {} ({})", materialId, material.getFileName());
+    }
+
+    /**
+     * Re-encode a decoded image for the web, or null when that wouldn't save enough
+     */
+    private MaterialRendition createRendition(ImageScaler.Scaled scaled, int originalSize) throws IOException {
+        BufferedImage image = scaled.getImage();
+        // Keep transparency (diagrams, logos) as PNG, everything else becomes JPEG
+        byte[] encoded = scaled.isTransparent()
+            ? ImageScaler.toPng(image)
+            : ImageScaler.toJpeg(image, renditionQuality);
+        if (encoded.length > originalSize * (1 - renditionMinSavings)) {
+            return null;
+        }
+        MaterialRendition rendition = new MaterialRendition();
+        rendition.setData(encoded);
+        rendition.setContentType(scaled.isTransparent() ? "image/png" : "image/jpeg");
+        rendition.setWidth(image.getWidth());
+        rendition.setHeight(image.getHeight());
+        return rendition;
+    }
+
+    private void processPdf(byte[] data, MaterialPreview preview) throws IOException {
+        try (PDDocument document = Loader.loadPDF(data)) {
+            preview.setPageCount(document.getNumberOfPages());
+
+            PDFTextStripper stripper = new PDFTextStripper();
+            preview.setExtractedText(truncate(stripper.getText(document)));
+
+            if (document.getNumberOfPages() > 0) {
+                // Render page one at about twice the thumbnail size, then resample
+                PDRectangle box = document.getPage(0).getCropBox();
+                float scale = Math.min(4f, thumbnailSize * 2f / Math.max(box.getWidth(), box.getHeight()));
+                BufferedImage page = new PDFRenderer(document).renderImage(0, scale);
+                preview.setThumbnail(ImageScaler.toJpeg(ImageScaler.fit(page, thumbnailSize), 0.8f));
+            }
+        }
+    }
+
+    /**
+     * Text of a DOCX body (word/document.xml), one line per paragraph
+     */
+    private String extractDocxText(byte[] data) throws IOException {
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(data))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.getName().equals("word/document.xml")) {
+                    return readDocumentXml(zip);
+                }
+            }
+        }
+        throw new IOException("Not a DOCX document");
+    }
+
+    private String readDocumentXml(ZipInputStream zip) throws IOException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        StringBuilder text = new StringBuilder();
+        try {
+            XMLStreamReader reader = factory.createXMLStreamReader(zip);
+            boolean inText = false;
+            // Stop reading once we have enough, which also caps work on a decompression bomb
+            while (reader.hasNext() && text.length() <= maxTextLength) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    inText = name.equals("t");
+                    if (name.equals("tab")) {
+                        text.append('\t');
+                    } else if (name.equals("br")) {
+                        text.append('\n');
+                    }
+                } else if (event == XMLStreamConstants.CHARACTERS && inText) {
+                    text.append(reader.getText());
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    inText = false;
+                    if (reader.getLocalName().equals("p")) {
+                        text.append('\n');
+                    }
+                }
+            }
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed DOCX document: " + e.getMessage(), e);
+        }
+        return text.toString();
+    }
+
+    private String truncate(String text) {
+        // Postgres TEXT can't hold NUL characters
+        String clean = text.replace("\u0000", "");
+        return clean.length() > maxTextLength ? clean.substring(0, maxTextLength) : clean;
+    }
+
+    private static final class Loaded {
+        final CourseMaterial material;
+        final byte[] data;
+
+        Loaded(CourseMaterial material, byte[] data) {
+            this.material = material;
+            this.data = data;
+        }
+    }
+
+    private static boolean isText(CourseMaterial material) {
+        return material.getFileUrl() != null && material.getFileUrl().startsWith("text://");
+    }
+
+    private static String extension(String fileName) {
+        if (fileName == null || fileName.lastIndexOf('.') < 0) {
+            return "";
+        }
+        return fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+    }
+}
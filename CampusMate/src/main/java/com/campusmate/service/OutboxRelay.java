@@ -0,0 +1,147 @@
+package com.campusmate.service;
+
+import com.campusmate.entity.OutboxEvent;
+import com.campusmate.event.DomainEvent;
+import com.campusmate.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Delivers outbox events to in-process listeners.
+ *
+ * One node relays at a time (transaction-scoped advisory lock), in id order, in batches.
+ * Writes to the same aggregate serialize on its row lock, which OutboxService takes before
+ * inserting the event, so its events are numbered, and therefore delivered, in commit order. Listeners run inside the relay transaction that
+ * deletes the batch: database work they do commits together with the delivery, while a
+ * failing listener rolls the batch back for redelivery. An event whose listeners keep
+ * failing is marked FAILED after max-attempts so the events behind it keep flowing.
+ */
+@Service
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    private final OutboxEventRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final Counter published;
+    private final Counter failures;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    @Value("${app.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    public OutboxRelay(OutboxEventRepository outboxRepository, ApplicationEventPublisher eventPublisher,
+                       JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                       ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionManager = transactionManager;
+        this.objectMapper = objectMapper;
+        this.published = Counter.builder("campusmate.outbox.published")
+            .description("Outbox events delivered to listeners")
+            .register(meterRegistry);
+        this.failures = Counter.builder("campusmate.outbox.failures")
+            .description("Outbox batches rolled back because a listener failed")
+            .register(meterRegistry);
+        Gauge.builder("campusmate.outbox.lag", lagMillis, lag -> lag.get() / 1000.0)
+            .description("Age of the oldest undelivered outbox event")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:500ms}")
+    public void relay() {
+        int delivered;
+        do {
+            delivered = relayBatch();
+        } while (delivered == batchSize);
+
+        lagMillis.set(outboxRepository.findOldestPendingCreatedAt()
+            .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()))
+            .orElse(0L));
+    }
+
+    private int relayBatch() {
+        AtomicReference<OutboxEvent> current = new AtomicReference<>();
+        try {
+            Integer delivered = new TransactionTemplate(transactionManager).execute(status -> {
+                Boolean locked = jdbcTemplate.queryForObject(
+                    "SELECT pg_try_advisory_xact_lock(hashtext('outbox-relay'))", Boolean.class);
+                if (!Boolean.TRUE.equals(locked)) {
+                    return 0; // Another node is relaying
+                }
+                List<OutboxEvent> events = outboxRepository.findPending(PageRequest.of(0, batchSize));
+                List<Long> ids = new ArrayList<>(events.size());
+                for (OutboxEvent event : events) {
+                    current.set(event);
+                    eventPublisher.publishEvent(toDomainEvent(event));
+                    ids.add(event.getId());
+                }
+                // Past the listeners: a failed delete or commit is not this event's fault
+                current.set(null);
+                outboxRepository.deleteAllByIdInBatch(ids);
+                return events.size();
+            });
+            int count = delivered != null ? delivered : 0;
+            published.increment(count);
+            return count;
+        } catch (RuntimeException e) {
+            failures.increment();
+            OutboxEvent failed = current.get();
+            if (failed == null) {
+                log.error("Outbox relay failed", e);
+                return 0;
+            }
+            log.warn("Listener failed on outbox event {} (attempt {}/{}), batch will be redelivered: {}",
+                failed.getId(), failed.getAttempts() + 1, maxAttempts, e.getMessage());
+            String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                outboxRepository.recordFailure(failed.getId(), error, maxAttempts));
+            return 0;
+        }
+    }
+
+    private DomainEvent toDomainEvent(OutboxEvent event) {
+        Map<String, Object> payload = Map.of();
+        if (event.getPayload() != null) {
+            try {
+                payload = objectMapper.readValue(event.getPayload(), PAYLOAD_TYPE);
+            } catch (IOException e) {
+                throw new IllegalStateException("Unreadable payload on outbox event " + event.getId(), e);
+            }
+        }
+        return new DomainEvent(event.getId(), event.getAggregateType(), event.getAggregateId(),
+            event.getEventType(), payload, event.getCreatedAt());
+    }
+}
@@ -0,0 +1,71 @@
+package com.campusmate.service;
+
+import com.campusmate.entity.OutboxEvent;
+import com.campusmate.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Records domain events in the transactional outbox.
+ *
+ * An event must be written by the transaction that makes the change, so it exists exactly
+ * when the change commits; calling this outside a transaction is an error. Record the event
+ * after the change to the aggregate's row, which the flush in record() then writes first.
+ */
+@Service
+public class OutboxService {
+
+    @Autowired
+    private OutboxEventRepository outboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Record an event with no payload beyond the aggregate id
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String aggregateType, String aggregateId, String eventType) {
+        record(aggregateType, aggregateId, eventType, null);
+    }
+
+    /**
+     * Record an event; the payload should hold what listeners need without reloading the aggregate
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String aggregateType, String aggregateId, String eventType, Map<String, Object> payload) {
+        String json = null;
+        if (payload != null) {
+            try {
+                json = objectMapper.writeValueAsString(payload);
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("Failed to serialize event payload: " + e.getMessage(), e);
+            }
+        }
+        // The event's IDENTITY insert runs immediately while pending changes wait for the flush;
+        // flushing first takes the aggregate's row lock before the event gets its id, so events
+        // of one aggregate are numbered in commit order
+        outboxRepository.flush();
+        outboxRepository.save(new OutboxEvent(aggregateType, aggregateId, eventType, json));
+    }
+
+    /**
+     * Build a payload from alternating keys and values, leaving out null values
+     */
+    public static Map<String, Object> payload(Object... keysAndValues) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < keysAndValues.length; i += 2) {
+            if (keysAndValues[i + 1] != null) {
+                payload.put((String) keysAndValues[i], keysAndValues[i + 1]);
+            }
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,144 @@
+package com.campusmate.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs BCrypt on a small dedicated pool instead of request threads.
+ *
+ * The pool is sized to the cores BCrypt may use and fronted by a short bounded queue; when both
+ * are full, callers get a RejectedExecutionException straight away (backpressure) rather than
+ * piling up request threads behind CPU-bound hashing.
+ */
+@Service
+public class PasswordHashingService {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final int strength;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejections;
+    private final Timer queueWait;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.security.bcrypt.strength:10}") int strength,
+                                  @Value("${app.security.bcrypt.threads:0}") int threads,
+                                  @Value("${app.security.bcrypt.queue-capacity:32}") int queueCapacity,
+                                  @Value("${app.security.bcrypt.timeout:5s}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.meterRegistry = meterRegistry;
+        this.strength = strength;
+        this.timeout = timeout;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "bcrypt-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+
+        this.rejections = Counter.builder("campusmate.auth.password.rejected")
+            .description("Password hash requests rejected because the hashing queue was full")
+            .register(meterRegistry);
+        this.queueWait = Timer.builder("campusmate.auth.password.wait")
+            .description("Time password hash requests waited for a hashing thread")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        Gauge.builder("campusmate.auth.password.queue", executor, e -> e.getQueue().size())
+            .description("Password hash requests waiting for a hashing thread")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Check a raw password against a stored hash
+     *
+     * @throws RejectedExecutionException when the hashing pool is saturated
+     */
+    public boolean verify(String rawPassword, String encodedPassword) {
+        return run("verify", () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Hash a raw password with the configured strength
+     *
+     * @throws RejectedExecutionException when the hashing pool is saturated
+     */
+    public String hash(String rawPassword) {
+        return run("hash", () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Whether a stored hash was made with a different cost than the one configured now
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return !matcher.find() || Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    private <T> T run(String operation, Callable<T> task) {
+        Future<T> future;
+        long submittedAt = System.nanoTime();
+        try {
+            future = executor.submit(() -> {
+                // Queueing and hashing are timed separately, so saturation and cost changes are told apart
+                queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return Timer.builder("campusmate.auth.password.hash")
+                    .description("BCrypt hashing and verification time")
+                    .tag("operation", operation)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw e;
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new RejectedExecutionException("Password hashing timed out", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Password hashing failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
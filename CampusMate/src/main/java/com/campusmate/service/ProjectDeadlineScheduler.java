@@ -0,0 +1,249 @@
+package com.campusmate.service;
+
+import com.campusmate.enums.ProjectStatus;
+import com.campusmate.event.DomainEvent;
+import com.campusmate.repository.ProjectRepository;
+import com.campusmate.util.HierarchicalTimerWheel;
+import com.campusmate.util.Transactions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fires project deadline reminders and overdue transitions from an in-memory timer wheel.
+ *
+ * The wheel is loaded from idx_project_deadline at startup and kept current by ProjectService,
+ * so the periodic tick only touches the database when a timer actually expires. Writes made on
+ * other nodes are picked up by a periodic resync of the deadlines coming due soon, so every node
+ * holds every imminent timer and a reminder does not depend on the node that wrote the project
+ * staying up. Firing runs under a Postgres advisory lock and every state change is a conditional
+ * UPDATE: only one node fires at a time, and the others find nothing left to do.
+ */
+@Service
+public class ProjectDeadlineScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectDeadlineScheduler.class);
+
+    static final Set<ProjectStatus> FINAL_STATUSES = EnumSet.of(ProjectStatus.COMPLETED, ProjectStatus.OVERDUE);
+
+    private static final String REMINDER_PREFIX = "reminder:";
+    private static final String DEADLINE_PREFIX = "deadline:";
+
+    // 1s ticks, 64 slots, 4 levels: ~194 days before a timer sits in the overflow set
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 4;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EmailJobHandler emailJobHandler;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private ProjectMatchingService projectMatchingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.projects.deadline.reminder-lead:24h}")
+    private Duration reminderLead;
+
+    @Value("${app.projects.deadline.tick:1s}")
+    private Duration tick;
+
+    @Value("${app.projects.deadline.resync-interval:1m}")
+    private Duration resyncInterval;
+
+    // A lock rather than synchronized, so a virtual thread waiting here never pins its carrier
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private HierarchicalTimerWheel<String> wheel;
+
+    /**
+     * Load every project that is still waiting on its deadline
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadDeadlines() {
+        // Query before taking the lock: no JDBC while holding it
+        List<Object[]> pending = projectRepository.findPendingDeadlines(FINAL_STATUSES);
+
+        lock.lock();
+        try {
+            wheel = new HierarchicalTimerWheel<>(tick.toMillis(), WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+            for (Object[] row : pending) {
+                scheduleTimers((String) row[0], (LocalDateTime) row[1], row[2] != null);
+            }
+            log.info("Loaded {} project deadline timers", wheel.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reload deadlines due within the next couple of resync intervals (reminder lead included).
+     * Catches projects created or changed on other nodes, or while this node was down.
+     */
+    @Scheduled(fixedDelayString = "${app.projects.deadline.resync-interval:1m}",
+               initialDelayString = "${app.projects.deadline.resync-interval:1m}")
+    public void resync() {
+        LocalDateTime horizon = LocalDateTime.now().plus(reminderLead).plus(resyncInterval.multipliedBy(2));
+        // Query before taking the lock: no JDBC while holding it
+        List<Object[]> upcoming = projectRepository.findPendingDeadlinesBefore(FINAL_STATUSES, horizon);
+
+        lock.lock();
+        try {
+            if (wheel == null) {
+                return;
+            }
+            for (Object[] row : upcoming) {
+                String projectId = (String) row[0];
+                cancelTimers(projectId);
+                scheduleTimers(projectId, (LocalDateTime) row[1], row[2] != null);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * (Re)schedule timers for a project after its deadline or status changed
+     */
+    public void schedule(String projectId, LocalDateTime deadline, ProjectStatus status, boolean reminderSent) {
+        lock.lock();
+        try {
+            if (wheel == null) {
+                return; // Startup load will pick the project up
+            }
+            cancelTimers(projectId);
+            if (deadline != null && !FINAL_STATUSES.contains(status)) {
+                scheduleTimers(projectId, deadline, reminderSent);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drop timers for a deleted project
+     */
+    public void cancel(String projectId) {
+        lock.lock();
+        try {
+            if (wheel != null) {
+                cancelTimers(projectId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.projects.deadline.tick:1s}")
+    public void tick() {
+        List<String> expired;
+        lock.lock();
+        try {
+            if (wheel == null) {
+                return;
+            }
+            expired = wheel.advance(System.currentTimeMillis());
+        } finally {
+            lock.unlock();
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Boolean fired = transactionTemplate.execute(status -> {
+            // Transaction-scoped lock: released on commit, so nodes take turns instead of double firing
+            Boolean locked = jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext('project-deadlines'))", Boolean.class);
+            if (!Boolean.TRUE.equals(locked)) {
+                return false;
+            }
+            for (String key : expired) {
+                if (key.startsWith(REMINDER_PREFIX)) {
+                    fireReminder(key.substring(REMINDER_PREFIX.length()));
+                } else {
+                    fireDeadline(key.substring(DEADLINE_PREFIX.length()));
+                }
+            }
+            return true;
+        });
+
+        if (!Boolean.TRUE.equals(fired)) {
+            // Another node is firing right now; retry these on the next tick
+            lock.lock();
+            try {
+                long now = System.currentTimeMillis();
+                expired.forEach(key -> wheel.schedule(key, now));
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void fireReminder(String projectId) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = projectRepository.markReminderSent(projectId, now, now.plus(reminderLead), FINAL_STATUSES);
+        if (updated == 0) {
+            return; // Already reminded (possibly by another node), finished, deleted or deadline moved
+        }
+        // Queued in the firing transaction, so the reminder is sent exactly when it is marked sent
+        projectRepository.findById(projectId).ifPresent(project -> emailJobHandler.enqueueProjectDeadlineReminder(
+            project.getLeader().getEmail(), project.getLeader().getFirstName(), project.getTitle(), project.getDeadline()));
+        log.info("Deadline reminder queued for project {}", projectId);
+    }
+
+    private void fireDeadline(String projectId) {
+        int updated = projectRepository.markDeadlinePassed(projectId, ProjectStatus.OVERDUE, LocalDateTime.now(), FINAL_STATUSES);
+        if (updated > 0) {
+            outboxService.record(DomainEvent.PROJECT, projectId, "ProjectOverdue",
+                OutboxService.payload("status", ProjectStatus.OVERDUE));
+            Transactions.afterCommit(() -> projectMatchingService.removeProject(projectId));
+            log.info("Project {} passed its deadline and is now {}", projectId, ProjectStatus.OVERDUE);
+            return;
+        }
+        // Stale timer: if the deadline was pushed back on another node, follow it
+        projectRepository.findById(projectId)
+            .filter(p -> !FINAL_STATUSES.contains(p.getStatus()) && p.getDeadline().isAfter(LocalDateTime.now()))
+            .ifPresent(p -> schedule(p.getId(), p.getDeadline(), p.getStatus(), p.getReminderSentAt() != null));
+    }
+
+    // Callers must hold the lock
+    private void scheduleTimers(String projectId, LocalDateTime deadline, boolean reminderSent) {
+        long deadlineMillis = deadline.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (!reminderSent) {
+            wheel.schedule(REMINDER_PREFIX + projectId, deadlineMillis - reminderLead.toMillis());
+        }
+        wheel.schedule(DEADLINE_PREFIX + projectId, deadlineMillis);
+    }
+
+    // Callers must hold the lock
+    private void cancelTimers(String projectId) {
+        wheel.cancel(REMINDER_PREFIX + projectId);
+        wheel.cancel(DEADLINE_PREFIX + projectId);
+    }
+}
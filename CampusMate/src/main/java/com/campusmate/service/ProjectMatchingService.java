@@ -0,0 +1,272 @@
+package com.campusmate.service;
+
+import com.campusmate.dto.response.ProjectMatchResponseDto;
+import com.campusmate.entity.Project;
+import com.campusmate.enums.ProjectStatus;
+import com.campusmate.event.DomainEvent;
+import com.campusmate.repository.ProjectRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory skill matching for open projects.
+ *
+ * Keeps an inverted index from normalized skill to a bitset of project slots, so ranking
+ * a student's skill set is a handful of bitset walks instead of one query per skill.
+ * Only recruiting projects with available slots are indexed. ProjectService refreshes entries
+ * after each committed create, update, delete or membership change on this node, and project
+ * events from the outbox reload the project wherever the change was made. The relay delivers
+ * each event on one node only, so a periodic rebuild bounds how long other nodes stay stale.
+ */
+@Service
+public class ProjectMatchingService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectMatchingService.class);
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // slot -> indexed project (null when the slot is free)
+    private final List<IndexedProject> slots = new ArrayList<>();
+    private final Map<String, Integer> slotByProjectId = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<String, BitSet> projectsBySkill = new HashMap<>();
+
+    /**
+     * Build the index from the database once the application is up, and again periodically
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.projects.matching.rebuild-interval:5m}",
+               initialDelayString = "${app.projects.matching.rebuild-interval:5m}")
+    @Transactional(readOnly = true)
+    public void rebuildIndex() {
+        List<Project> openProjects = projectRepository.findOpenProjectsWithSkills(ProjectStatus.RECRUITING);
+
+        lock.writeLock().lock();
+        try {
+            slots.clear();
+            slotByProjectId.clear();
+            freeSlots.clear();
+            projectsBySkill.clear();
+            for (Project project : openProjects) {
+                insert(IndexedProject.of(project));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Project skill index built with {} open projects and {} skills", openProjects.size(), projectsBySkill.size());
+    }
+
+    /**
+     * Reload a project after a committed change to it, possibly made on another node.
+     * Idempotent, so redelivered or out of order events do no harm.
+     */
+    @EventListener(condition = "#event.aggregateType == 'Project'")
+    public void onProjectEvent(DomainEvent event) {
+        Optional<Project> project = projectRepository.findById(event.getAggregateId());
+        if (project.isPresent()) {
+            updateProject(IndexedProject.of(project.get()));
+        } else {
+            removeProject(event.getAggregateId());
+        }
+    }
+
+    /**
+     * Add, replace or drop a project's index entry depending on whether it is still recruiting with open slots
+     */
+    public void updateProject(IndexedProject project) {
+        lock.writeLock().lock();
+        try {
+            remove(project.getId());
+            if (project.getStatus() == ProjectStatus.RECRUITING && project.getOpenSlots() > 0) {
+                insert(project);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop a project from the index
+     */
+    public void removeProject(String projectId) {
+        lock.writeLock().lock();
+        try {
+            remove(projectId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rank open projects by how many of the given skills they require
+     */
+    public List<ProjectMatchResponseDto> findMatchingProjects(Collection<String> studentSkills, int limit) {
+        Set<String> skills = normalize(studentSkills);
+        if (skills.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] scores = new int[slots.size()];
+            BitSet candidates = new BitSet(slots.size());
+            for (String skill : skills) {
+                BitSet projects = projectsBySkill.get(skill);
+                if (projects == null) {
+                    continue;
+                }
+                candidates.or(projects);
+                for (int slot = projects.nextSetBit(0); slot >= 0; slot = projects.nextSetBit(slot + 1)) {
+                    scores[slot]++;
+                }
+            }
+
+            List<Integer> ranked = new ArrayList<>(candidates.cardinality());
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                ranked.add(slot);
+            }
+            ranked.sort(Comparator.<Integer>comparingInt(slot -> scores[slot]).reversed()
+                .thenComparing(slot -> slots.get(slot).getDeadline(), Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder())));
+
+            List<ProjectMatchResponseDto> matches = new ArrayList<>(Math.min(limit, ranked.size()));
+            for (int slot : ranked.subList(0, Math.min(limit, ranked.size()))) {
+                IndexedProject project = slots.get(slot);
+                Set<String> matchedSkills = new LinkedHashSet<>(project.getSkills());
+                matchedSkills.retainAll(skills);
+                matches.add(new ProjectMatchResponseDto(
+                    project.getId(),
+                    project.getTitle(),
+                    project.getCategory(),
+                    project.getOpenSlots(),
+                    project.getDeadline(),
+                    scores[slot],
+                    project.getSkills().size(),
+                    matchedSkills
+                ));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Callers must hold the write lock
+    private void insert(IndexedProject project) {
+        int slot = freeSlots.isEmpty() ? slots.size() : freeSlots.pop();
+        if (slot == slots.size()) {
+            slots.add(project);
+        } else {
+            slots.set(slot, project);
+        }
+        slotByProjectId.put(project.getId(), slot);
+        for (String skill : project.getSkills()) {
+            projectsBySkill.computeIfAbsent(skill, s -> new BitSet()).set(slot);
+        }
+    }
+
+    // Callers must hold the write lock
+    private void remove(String projectId) {
+        Integer slot = slotByProjectId.remove(projectId);
+        if (slot == null) {
+            return;
+        }
+        IndexedProject project = slots.get(slot);
+        for (String skill : project.getSkills()) {
+            BitSet projects = projectsBySkill.get(skill);
+            if (projects != null) {
+                projects.clear(slot);
+                if (projects.isEmpty()) {
+                    projectsBySkill.remove(skill);
+                }
+            }
+        }
+        slots.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    private static Set<String> normalize(Collection<String> skills) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (skills == null) {
+            return normalized;
+        }
+        for (String skill : skills) {
+            if (skill != null && !skill.trim().isEmpty()) {
+                normalized.add(skill.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * Immutable snapshot of the project fields the index needs, taken inside the
+     * writing transaction so it can be applied after commit without lazy loading.
+     */
+    public static final class IndexedProject {
+        private final String id;
+        private final String title;
+        private final String category;
+        private final ProjectStatus status;
+        private final int openSlots;
+        private final LocalDateTime deadline;
+        private final Set<String> skills;
+
+        private IndexedProject(String id, String title, String category, ProjectStatus status, int openSlots,
+                               LocalDateTime deadline, Set<String> skills) {
+            this.id = id;
+            this.title = title;
+            this.category = category;
+            this.status = status;
+            this.openSlots = openSlots;
+            this.deadline = deadline;
+            this.skills = skills;
+        }
+
+        public static IndexedProject of(Project project) {
+            int maxMembers = project.getMaxMembers() != null ? project.getMaxMembers() : 0;
+            int currentMembers = project.getCurrentMembers() != null ? project.getCurrentMembers() : 0;
+            return new IndexedProject(
+                project.getId(),
+                project.getTitle(),
+                project.getCategory(),
+                project.getStatus(),
+                Math.max(0, maxMembers - currentMembers),
+                project.getDeadline(),
+                Set.copyOf(normalize(project.getSkillsRequired()))
+            );
+        }
+
+        public String getId() { return id; }
+        public String getTitle() { return title; }
+        public String getCategory() { return category; }
+        public ProjectStatus getStatus() { return status; }
+        public int getOpenSlots() { return openSlots; }
+        public LocalDateTime getDeadline() { return deadline; }
+        public Set<String> getSkills() { return skills; }
+    }
+}
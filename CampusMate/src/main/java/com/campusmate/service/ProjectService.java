@@ -14,8 +14,14 @@ import com.campusmate.enums.UserRole;
 import com.campusmate.dto.request.ProjectJoinRequestDto;
 import com.campusmate.dto.request.ProjectJoinResponseDto;
 import com.campusmate.dto.response.ProjectJoinRequestResponseDto;
+import com.campusmate.dto.response.ProjectMatchResponseDto;
 import com.campusmate.dto.response.ProjectResponseDto;
+import com.campusmate.event.DomainEvent;
+import com.campusmate.util.Transactions;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +34,8 @@ import java.util.UUID;
 @Service
 public class ProjectService {
     
+    public static final String JOIN_REQUEST_COUNTS_CACHE = "joinRequestCounts";
+    
     @Autowired
     private ProjectRepository projectRepository;
     
@@ -40,6 +48,19 @@ public class ProjectService {
     @Autowired
     private ProjectJoinRequestRepository projectJoinRequestRepository;
     
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Autowired
+    private ProjectMatchingService projectMatchingService;
+    
+    @Autowired
+    private ProjectDeadlineScheduler projectDeadlineScheduler;
+    
+    @Autowired
+    private OutboxService outboxService;
+    
+    @Transactional(readOnly = true)
     public List<ProjectResponseDto> getAllProjects() {
         List<Project> projects = projectRepository.findAll();
         return projects.stream()
@@ -47,10 +68,12 @@ public class ProjectService {
             .collect(java.util.stream.Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
     public Optional<Project> getProjectById(String id) {
         return projectRepository.findById(id);
     }
     
+    @Transactional
     public Project createProject(Project project) {
         // ID will be auto-generated by Hibernate, don't set it manually
         if (project.getCurrentMembers() == null) {
@@ -84,7 +107,10 @@ public class ProjectService {
             project.setLeader(mockLeader);
         }
         
-        return projectRepository.save(project);
+        Project savedProject = projectRepository.save(project);
+        refreshProjectIndexes(savedProject);
+        recordProjectEvent(savedProject, "ProjectCreated");
+        return savedProject;
     }
     
     /**
@@ -135,7 +161,10 @@ public class ProjectService {
             project.setProgress(20); // Default progress when leader joins
         }
         
-        return projectRepository.save(project);
+        Project savedProject = projectRepository.save(project);
+        refreshProjectIndexes(savedProject);
+        recordProjectEvent(savedProject, "ProjectCreated");
+        return savedProject;
     }
     
     /**
@@ -178,6 +207,7 @@ public class ProjectService {
         }
     }
     
+    @Transactional
     public Project updateProject(String id, Project projectDetails, String userEmail) {
         Project project = projectRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Project not found"));
@@ -199,12 +229,19 @@ public class ProjectService {
         project.setStatus(projectDetails.getStatus());
         project.setMaxMembers(projectDetails.getMaxMembers());
         project.setProgress(projectDetails.getProgress());
+        if (projectDetails.getDeadline() != null && !projectDetails.getDeadline().equals(project.getDeadline())) {
+            project.setReminderSentAt(null); // New deadline gets a new reminder
+        }
         project.setDeadline(projectDetails.getDeadline());
         project.setSkillsRequired(projectDetails.getSkillsRequired());
         
-        return projectRepository.save(project);
+        Project savedProject = projectRepository.save(project);
+        refreshProjectIndexes(savedProject);
+        recordProjectEvent(savedProject, "ProjectUpdated");
+        return savedProject;
     }
     
+    @Transactional
     public void deleteProject(String id, String userEmail) {
         Project project = projectRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Project not found"));
@@ -220,39 +257,63 @@ public class ProjectService {
             throw new RuntimeException("Only the project leader or administrators can delete this project");
         }
         
+        // Pending requests of this project disappear with it, so take them off the leader's counter
+        int pendingRequests = projectRepository.findPendingRequestCountById(id).orElse(0);
+        if (pendingRequests > 0) {
+            userRepository.adjustPendingJoinRequestCount(project.getLeader().getId(), -pendingRequests);
+        }
+        
         // With cascade delete, we can just delete the project directly
         // All related join requests and members will be deleted automatically
         projectRepository.deleteById(id);
+        outboxService.record(DomainEvent.PROJECT, id, "ProjectDeleted");
+        evictPendingRequestCounts(id, project.getLeader().getEmail());
+        Transactions.afterCommit(() -> {
+            projectMatchingService.removeProject(id);
+            projectDeadlineScheduler.cancel(id);
+        });
     }
     
+    @Transactional(readOnly = true)
     public List<Project> getProjectsByLeader(String leaderId) {
         return projectRepository.findByLeaderId(leaderId);
     }
     
+    @Transactional(readOnly = true)
     public List<Project> getProjectsByCourse(String courseId) {
         return projectRepository.findByCourseId(courseId);
     }
     
+    @Transactional(readOnly = true)
     public List<Project> getProjectsByStatus(String status) {
         return projectRepository.findByStatus(status);
     }
     
+    @Transactional(readOnly = true)
     public List<Project> getProjectsByCategory(String category) {
         return projectRepository.findByCategory(category);
     }
     
+    @Transactional(readOnly = true)
     public List<Project> getProjectsWithAvailableSlots() {
         return projectRepository.findProjectsWithAvailableSlots();
     }
     
+    @Transactional(readOnly = true)
     public List<Project> searchProjects(String keyword) {
         return projectRepository.searchByKeyword(keyword);
     }
     
+    @Transactional(readOnly = true)
     public List<Project> getProjectsBySkill(String skill) {
         return projectRepository.findBySkillsRequiredContaining(skill);
     }
     
+    public List<ProjectMatchResponseDto> getRecommendedProjects(List<String> skills, int limit) {
+        return projectMatchingService.findMatchingProjects(skills, limit);
+    }
+    
+    @Transactional(readOnly = true)
     public List<Project> getProjectsBeforeDeadline(LocalDateTime deadline) {
         return projectRepository.findProjectsBeforeDeadline(deadline);
     }
@@ -294,12 +355,18 @@ public class ProjectService {
 
         // Create join request
         ProjectJoinRequest joinRequest = new ProjectJoinRequest(project, user, requestDto.getMessage());
-        return projectJoinRequestRepository.save(joinRequest);
+        ProjectJoinRequest savedRequest = projectJoinRequestRepository.save(joinRequest);
+        
+        adjustPendingRequestCounts(project, 1);
+        outboxService.record(DomainEvent.PROJECT, project.getId(), "JoinRequested", OutboxService.payload(
+            "requestId", savedRequest.getId(), "userId", user.getId()));
+        return savedRequest;
     }
 
     /**
      * Get all pending join requests for a project
      */
+    @Transactional(readOnly = true)
     public List<ProjectJoinRequestResponseDto> getPendingJoinRequests(String projectId) {
         List<ProjectJoinRequest> requests = projectJoinRequestRepository.findByProjectIdAndStatus(projectId, ProjectJoinRequest.RequestStatus.PENDING);
         return requests.stream()
@@ -310,6 +377,7 @@ public class ProjectService {
     /**
      * Get all join requests for projects led by a user
      */
+    @Transactional(readOnly = true)
     public List<ProjectJoinRequestResponseDto> getJoinRequestsForUserProjects(String leaderEmail) {
         User leader = userRepository.findByEmail(leaderEmail)
             .orElseThrow(() -> new RuntimeException("User not found"));
@@ -325,8 +393,8 @@ public class ProjectService {
      */
     @Transactional
     public ProjectJoinRequestResponseDto respondToJoinRequest(ProjectJoinResponseDto responseDto, String leaderEmail) {
-        // Get the join request with pessimistic lock to prevent race conditions
-        ProjectJoinRequest joinRequest = projectJoinRequestRepository.findById(responseDto.getRequestId())
+        // Row lock: a concurrent response or cancellation waits here and then sees the request processed
+        ProjectJoinRequest joinRequest = projectJoinRequestRepository.lockById(responseDto.getRequestId())
             .orElseThrow(() -> new RuntimeException("Join request not found"));
 
         // Get the leader
@@ -355,11 +423,17 @@ public class ProjectService {
         
         // Flush to ensure the status is persisted
         projectJoinRequestRepository.flush();
+        
+        // The request is no longer pending either way
+        adjustPendingRequestCounts(joinRequest.getProject(), -1);
 
         // If approved, add user to project
         if (responseDto.isApprove()) {
             addUserToProject(joinRequest.getProject(), joinRequest.getUser());
         }
+        outboxService.record(DomainEvent.PROJECT, joinRequest.getProject().getId(),
+            responseDto.isApprove() ? "JoinRequestApproved" : "JoinRequestRejected", OutboxService.payload(
+                "requestId", savedRequest.getId(), "userId", joinRequest.getUser().getId()));
 
         // Return DTO instead of entity to avoid serialization issues
         return new ProjectJoinRequestResponseDto(savedRequest);
@@ -388,11 +462,13 @@ public class ProjectService {
 
         // Save project
         projectRepository.save(project);
+        refreshProjectIndexes(project);
     }
 
     /**
      * Get user's join requests
      */
+    @Transactional(readOnly = true)
     public List<ProjectJoinRequestResponseDto> getUserJoinRequests(String userEmail) {
         User user = userRepository.findByEmail(userEmail)
             .orElseThrow(() -> new RuntimeException("User not found"));
@@ -408,7 +484,7 @@ public class ProjectService {
      */
     @Transactional
     public void cancelJoinRequest(String requestId, String userEmail) {
-        ProjectJoinRequest joinRequest = projectJoinRequestRepository.findById(requestId)
+        ProjectJoinRequest joinRequest = projectJoinRequestRepository.lockById(requestId)
             .orElseThrow(() -> new RuntimeException("Join request not found"));
 
         User user = userRepository.findByEmail(userEmail)
@@ -425,6 +501,77 @@ public class ProjectService {
         }
 
         projectJoinRequestRepository.delete(joinRequest);
+        adjustPendingRequestCounts(joinRequest.getProject(), -1);
+        outboxService.record(DomainEvent.PROJECT, joinRequest.getProject().getId(), "JoinRequestCancelled",
+            OutboxService.payload("requestId", requestId, "userId", user.getId()));
+    }
+
+    /**
+     * Get the number of pending join requests for a project (served from the denormalized counter)
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = JOIN_REQUEST_COUNTS_CACHE, key = "'project:' + #projectId")
+    public long getPendingJoinRequestCount(String projectId) {
+        return projectRepository.findPendingRequestCountById(projectId)
+            .orElseThrow(() -> new RuntimeException("Project not found"));
+    }
+
+    /**
+     * Get the number of pending join requests across all projects led by a user
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = JOIN_REQUEST_COUNTS_CACHE, key = "'leader:' + #leaderEmail")
+    public long getPendingJoinRequestCountForLeader(String leaderEmail) {
+        return userRepository.findPendingJoinRequestCountByEmail(leaderEmail)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+    }
+
+    /**
+     * Atomically move the project and leader pending-request counters by delta.
+     * Must run inside the transaction that changes the join request itself.
+     */
+    private void adjustPendingRequestCounts(Project project, int delta) {
+        User leader = project.getLeader();
+        projectRepository.adjustPendingRequestCount(project.getId(), delta);
+        userRepository.adjustPendingJoinRequestCount(leader.getId(), delta);
+        evictPendingRequestCounts(project.getId(), leader.getEmail());
+    }
+
+    /**
+     * Drop cached counts once the surrounding transaction has committed, so readers
+     * never repopulate the cache with a value that is about to change.
+     */
+    private void evictPendingRequestCounts(String projectId, String leaderEmail) {
+        Transactions.afterCommit(() -> {
+            Cache cache = cacheManager.getCache(JOIN_REQUEST_COUNTS_CACHE);
+            if (cache != null) {
+                cache.evict("project:" + projectId);
+                cache.evict("leader:" + leaderEmail);
+            }
+        });
+    }
+
+    private void recordProjectEvent(Project project, String eventType) {
+        outboxService.record(DomainEvent.PROJECT, project.getId(), eventType, OutboxService.payload(
+            "title", project.getTitle(),
+            "status", project.getStatus(),
+            "leaderId", project.getLeader() != null ? project.getLeader().getId() : null,
+            "courseId", project.getCourse() != null ? project.getCourse().getId() : null));
+    }
+
+    /**
+     * Snapshot the project now and apply it to the skill index and deadline timers once the change is committed
+     */
+    private void refreshProjectIndexes(Project project) {
+        ProjectMatchingService.IndexedProject snapshot = ProjectMatchingService.IndexedProject.of(project);
+        String projectId = project.getId();
+        LocalDateTime deadline = project.getDeadline();
+        ProjectStatus status = project.getStatus();
+        boolean reminderSent = project.getReminderSentAt() != null;
+        Transactions.afterCommit(() -> {
+            projectMatchingService.updateProject(snapshot);
+            projectDeadlineScheduler.schedule(projectId, deadline, status, reminderSent);
+        });
     }
 
     /**
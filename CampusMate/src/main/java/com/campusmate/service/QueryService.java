@@ -2,6 +2,8 @@ package com.campusmate.service;
 
 import com.campusmate.entity.Query;
 import com.campusmate.entity.User;
+import com.campusmate.event.DomainEvent;
+import com.campusmate.entity.id.NativeUuidType;
 import com.campusmate.enums.QueryStatus;
 import com.campusmate.enums.UserRole;
 import com.campusmate.repository.QueryRepository;
@@ -21,21 +23,23 @@ import java.util.Optional;
 import java.util.Set;
 
 @Service
-@Transactional
 public class QueryService {
 
     private static final Logger log = LoggerFactory.getLogger(QueryService.class);
 
     private final QueryRepository queryRepository;
     private final UserRepository userRepository;
+    private final OutboxService outboxService;
 
     @Autowired
-    public QueryService(QueryRepository queryRepository, UserRepository userRepository) {
+    public QueryService(QueryRepository queryRepository, UserRepository userRepository, OutboxService outboxService) {
         this.queryRepository = queryRepository;
         this.userRepository = userRepository;
+        this.outboxService = outboxService;
     }
 
     // Create a new query
+    @Transactional
     public Query createQuery(Query query) {
         log.info("Creating new query: {}", query.getTitle());
         
@@ -52,7 +56,11 @@ public class QueryService {
         query.setResponseCount(0);
         query.setIsSolved(false);
         
-        return queryRepository.save(query);
+        Query savedQuery = queryRepository.save(query);
+        outboxService.record(DomainEvent.QUERY, savedQuery.getId(), "QueryCreated", OutboxService.payload(
+            "title", savedQuery.getTitle(), "category", savedQuery.getCategory(),
+            "authorId", savedQuery.getAuthor() != null ? savedQuery.getAuthor().getId() : null));
+        return savedQuery;
     }
     
     /**
@@ -85,40 +93,46 @@ public class QueryService {
     }
 
     // Get all queries with pagination
+    @Transactional(readOnly = true)
     public Page<Query> getAllQueries(Pageable pageable) {
         log.info("Fetching all queries with pagination");
         return queryRepository.findAllByOrderByCreatedAtDesc(pageable);
     }
 
     // Get query by ID
+    @Transactional(readOnly = true)
     public Optional<Query> getQueryById(String id) {
         log.info("Fetching query with id: {}", id);
-        return queryRepository.findById(id);
+        return findQuery(id);
     }
 
     // Get queries by author
+    @Transactional(readOnly = true)
     public List<Query> getQueriesByAuthor(User author) {
         log.info("Fetching queries by author: {}", author.getId());
         return queryRepository.findByAuthorOrderByCreatedAtDesc(author);
     }
 
     // Get queries by category
+    @Transactional(readOnly = true)
     public List<Query> getQueriesByCategory(String category) {
         log.info("Fetching queries by category: {}", category);
         return queryRepository.findByCategoryOrderByCreatedAtDesc(category);
     }
 
     // Get queries by status
+    @Transactional(readOnly = true)
     public List<Query> getQueriesByStatus(String status) {
         log.info("Fetching queries by status: {}", status);
         return queryRepository.findByStatusOrderByCreatedAtDesc(status);
     }
 
     // Update query
+    @Transactional
     public Query updateQuery(String id, Query updatedQuery, String currentUserId) {
         log.info("Updating query with id: {}", id);
         
-        Optional<Query> existingQuery = queryRepository.findById(id);
+        Optional<Query> existingQuery = findQuery(id);
         if (existingQuery.isEmpty()) {
             throw new RuntimeException("Query not found with id: " + id);
         }
@@ -144,14 +158,18 @@ public class QueryService {
         query.setTags(updatedQuery.getTags());
         query.setUpdatedAt(LocalDateTime.now());
         
-        return queryRepository.save(query);
+        Query savedQuery = queryRepository.save(query);
+        outboxService.record(DomainEvent.QUERY, id, "QueryUpdated", OutboxService.payload(
+            "title", savedQuery.getTitle(), "category", savedQuery.getCategory()));
+        return savedQuery;
     }
 
     // Delete query (only author or admin)
+    @Transactional
     public boolean deleteQuery(String id, String currentUserId) {
         log.info("Deleting query with id: {}", id);
         
-        Optional<Query> queryOpt = queryRepository.findById(id);
+        Optional<Query> queryOpt = findQuery(id);
         if (queryOpt.isEmpty()) {
             log.warn("Query not found with id: {}", id);
             return false;
@@ -168,6 +186,7 @@ public class QueryService {
             log.info("Admin user {} deleting query {} - bypassing author check", currentUserId, id);
             try {
                 queryRepository.deleteById(id);
+                outboxService.record(DomainEvent.QUERY, id, "QueryDeleted");
                 log.info("Query {} deleted successfully by admin {}", id, currentUserId);
                 return true;
             } catch (Exception e) {
@@ -183,6 +202,7 @@ public class QueryService {
                 log.info("Author user {} deleting their query {}", currentUserId, id);
                 try {
                     queryRepository.deleteById(id);
+                    outboxService.record(DomainEvent.QUERY, id, "QueryDeleted");
                     log.info("Query {} deleted successfully by author {}", id, currentUserId);
                     return true;
                 } catch (Exception e) {
@@ -198,10 +218,11 @@ public class QueryService {
     }
 
     // Upvote query
+    @Transactional
     public Query upvoteQuery(String id) {
         log.info("Upvoting query with id: {}", id);
         
-        Optional<Query> query = queryRepository.findById(id);
+        Optional<Query> query = lockQuery(id);
         if (query.isEmpty()) {
             throw new RuntimeException("Query not found with id: " + id);
         }
@@ -210,14 +231,18 @@ public class QueryService {
         q.setUpvotes(q.getUpvotes() + 1);
         q.setUpdatedAt(LocalDateTime.now());
         
-        return queryRepository.save(q);
+        Query savedQuery = queryRepository.save(q);
+        outboxService.record(DomainEvent.QUERY, id, "QueryVoted", OutboxService.payload(
+            "upvotes", savedQuery.getUpvotes(), "downvotes", savedQuery.getDownvotes()));
+        return savedQuery;
     }
 
     // Downvote query
+    @Transactional
     public Query downvoteQuery(String id) {
         log.info("Downvoting query with id: {}", id);
         
-        Optional<Query> query = queryRepository.findById(id);
+        Optional<Query> query = lockQuery(id);
         if (query.isEmpty()) {
             throw new RuntimeException("Query not found with id: " + id);
         }
@@ -226,14 +251,18 @@ public class QueryService {
         q.setDownvotes(q.getDownvotes() + 1);
         q.setUpdatedAt(LocalDateTime.now());
         
-        return queryRepository.save(q);
+        Query savedQuery = queryRepository.save(q);
+        outboxService.record(DomainEvent.QUERY, id, "QueryVoted", OutboxService.payload(
+            "upvotes", savedQuery.getUpvotes(), "downvotes", savedQuery.getDownvotes()));
+        return savedQuery;
     }
 
     // Mark query as solved
+    @Transactional
     public Query markAsSolved(String id, User solvedBy) {
         log.info("Marking query as solved with id: {}", id);
         
-        Optional<Query> query = queryRepository.findById(id);
+        Optional<Query> query = findQuery(id);
         if (query.isEmpty()) {
             throw new RuntimeException("Query not found with id: " + id);
         }
@@ -245,26 +274,32 @@ public class QueryService {
         q.setStatus(QueryStatus.ANSWERED);
         q.setUpdatedAt(LocalDateTime.now());
         
-        return queryRepository.save(q);
+        Query savedQuery = queryRepository.save(q);
+        outboxService.record(DomainEvent.QUERY, id, "QuerySolved", OutboxService.payload(
+            "solvedById", solvedBy != null ? solvedBy.getId() : null));
+        return savedQuery;
     }
 
     // Search queries
+    @Transactional(readOnly = true)
     public Page<Query> searchQueries(String searchTerm, Pageable pageable) {
         log.info("Searching queries with term: {}", searchTerm);
         return queryRepository.findByTitleOrContentContainingIgnoreCase(searchTerm, pageable);
     }
 
     // Get queries by tags
+    @Transactional(readOnly = true)
     public List<Query> getQueriesByTags(Set<String> tags) {
         log.info("Fetching queries by tags: {}", tags);
         return queryRepository.findByTagsContaining(new ArrayList<>(tags));
     }
 
     // Admin delete query - bypasses all user validation
+    @Transactional
     public boolean adminDeleteQuery(String id) {
         log.info("Admin deleting query with id: {}", id);
         
-        Optional<Query> queryOpt = queryRepository.findById(id);
+        Optional<Query> queryOpt = findQuery(id);
         if (queryOpt.isEmpty()) {
             log.warn("Query not found with id: {}", id);
             return false;
@@ -272,6 +307,7 @@ public class QueryService {
         
         try {
             queryRepository.deleteById(id);
+            outboxService.record(DomainEvent.QUERY, id, "QueryDeleted");
             log.info("Query {} deleted successfully by admin", id);
             return true;
         } catch (Exception e) {
@@ -279,4 +315,13 @@ public class QueryService {
             throw new RuntimeException("Failed to delete query: " + e.getMessage());
         }
     }
+
+    // A malformed id can't match a row, and binding it to the uuid column would throw
+    private Optional<Query> findQuery(String id) {
+        return NativeUuidType.isUuid(id) ? queryRepository.findById(id) : Optional.empty();
+    }
+
+    private Optional<Query> lockQuery(String id) {
+        return NativeUuidType.isUuid(id) ? queryRepository.lockById(id) : Optional.empty();
+    }
 }
@@ -0,0 +1,187 @@
+package com.campusmate.service;
+
+import com.campusmate.entity.RefreshToken;
+import com.campusmate.entity.RefreshTokenFamily;
+import com.campusmate.entity.User;
+import com.campusmate.repository.RefreshTokenFamilyRepository;
+import com.campusmate.repository.RefreshTokenRepository;
+import com.campusmate.security.TokenRevocationIndex;
+import com.campusmate.util.Transactions;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Issues, rotates and revokes refresh tokens.
+ *
+ * Each login starts a token family. A refresh marks the presented token used with a
+ * conditional UPDATE and issues the next token in the same family; presenting a used token
+ * again means a copy leaked, so the whole family is revoked. Access tokens carry the family
+ * id, and TokenRevocationIndex rejects them once their family is revoked.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    @Autowired
+    private RefreshTokenRepository tokenRepository;
+
+    @Autowired
+    private RefreshTokenFamilyRepository familyRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TokenRevocationIndex revocationIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ClusterTaskRunner clusterTaskRunner;
+
+    @Value("${app.security.refresh.cleanup-batch-size:1000}")
+    private int cleanupBatchSize;
+
+    /**
+     * Start a new token family for a freshly authenticated user
+     */
+    @Transactional
+    public TokenPair startSession(User user) {
+        LocalDateTime expiresAt = nextExpiry();
+        RefreshTokenFamily family = familyRepository.save(new RefreshTokenFamily(user, expiresAt));
+        return issue(user, family, expiresAt);
+    }
+
+    /**
+     * Exchange a refresh token for a new access/refresh pair
+     *
+     * @return empty when the token is unknown, expired, revoked or being replayed
+     */
+    @Transactional
+    public Optional<TokenPair> rotate(String refreshToken) {
+        Optional<RefreshToken> stored = tokenRepository.findByTokenHash(hash(refreshToken));
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+        RefreshToken token = stored.get();
+        RefreshTokenFamily family = token.getFamily();
+        LocalDateTime now = LocalDateTime.now();
+        if (family.isRevoked() || token.getExpiresAt().isBefore(now)) {
+            return Optional.empty();
+        }
+
+        if (tokenRepository.markUsed(token.getId(), now) == 0) {
+            // Already rotated once: whoever presents it now holds a copy. Returning rather than
+            // throwing lets the revocation commit.
+            log.warn("Refresh token reuse detected for user {}, revoking family {}", family.getUser().getId(), family.getId());
+            meterRegistry.counter("campusmate.auth.refresh.reuse").increment();
+            revokeFamily(family.getId(), RefreshTokenFamily.REASON_REUSE, now);
+            return Optional.empty();
+        }
+
+        User user = family.getUser();
+        if (!Boolean.TRUE.equals(user.getIsActive())) {
+            revokeFamily(family.getId(), RefreshTokenFamily.REASON_LOGOUT, now);
+            return Optional.empty();
+        }
+        LocalDateTime expiresAt = nextExpiry();
+        familyRepository.extendExpiry(family.getId(), expiresAt);
+        meterRegistry.counter("campusmate.auth.refresh.rotations").increment();
+        return Optional.of(issue(user, family, expiresAt));
+    }
+
+    /**
+     * Revoke the family a refresh token belongs to (logout)
+     */
+    @Transactional
+    public boolean revoke(String refreshToken) {
+        Optional<RefreshToken> stored = tokenRepository.findByTokenHash(hash(refreshToken));
+        if (stored.isEmpty()) {
+            return false;
+        }
+        revokeFamily(stored.get().getFamily().getId(), RefreshTokenFamily.REASON_LOGOUT, LocalDateTime.now());
+        return true;
+    }
+
+    /**
+     * Delete families whose newest token has expired, in short batches so no delete holds
+     * locks on a large slice of the table. Runs on one node.
+     */
+    @Scheduled(cron = "${app.security.refresh.cleanup-cron:0 30 * * * *}")
+    public void cleanupExpiredFamilies() {
+        clusterTaskRunner.run("refresh-token-cleanup", this::deleteExpiredFamilies);
+    }
+
+    private void deleteExpiredFamilies() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = Transactions.deleteInBatches(transactionManager, cleanupBatchSize,
+            () -> familyRepository.deleteExpiredBatch(now, cleanupBatchSize));
+        if (total > 0) {
+            log.info("Deleted {} expired refresh token families", total);
+        }
+    }
+
+    private TokenPair issue(User user, RefreshTokenFamily family, LocalDateTime expiresAt) {
+        String refreshToken = jwtService.generateRefreshToken(user, family.getId());
+        tokenRepository.save(new RefreshToken(family, hash(refreshToken), expiresAt));
+        String accessToken = jwtService.generateToken(user, family.getId());
+        return new TokenPair(accessToken, refreshToken, user);
+    }
+
+    private void revokeFamily(String familyId, String reason, LocalDateTime now) {
+        if (familyRepository.revoke(familyId, reason, now) > 0) {
+            Transactions.afterCommit(() -> revocationIndex.markRevoked(familyId));
+        }
+    }
+
+    private LocalDateTime nextExpiry() {
+        return LocalDateTime.now().plusNanos(jwtService.getRefreshTokenExpiration() * 1_000_000L);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Access and refresh token issued together, plus the user they belong to
+     */
+    public static final class TokenPair {
+        private final String accessToken;
+        private final String refreshToken;
+        private final User user;
+
+        TokenPair(String accessToken, String refreshToken, User user) {
+            this.accessToken = accessToken;
+            this.refreshToken = refreshToken;
+            this.user = user;
+        }
+
+        public String getAccessToken() { return accessToken; }
+        public String getRefreshToken() { return refreshToken; }
+        public User getUser() { return user; }
+    }
+}
@@ -2,6 +2,8 @@ package com.campusmate.service;
 
 import com.campusmate.entity.Response;
 import com.campusmate.entity.Query;
+import com.campusmate.entity.id.NativeUuidType;
+import com.campusmate.event.DomainEvent;
 import com.campusmate.repository.ResponseRepository;
 import com.campusmate.repository.QueryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,12 +23,15 @@ public class ResponseService {
     @Autowired
     private QueryRepository queryRepository;
     
+    @Autowired
+    private OutboxService outboxService;
+    
     public List<Response> getAllResponses() {
         return responseRepository.findAll();
     }
     
     public Optional<Response> getResponseById(String id) {
-        return responseRepository.findById(id);
+        return findResponse(id);
     }
     
     @Transactional
@@ -36,22 +41,30 @@ public class ResponseService {
         
         // Update query response count
         updateQueryResponseCount(response.getQuery().getId());
+        outboxService.record(DomainEvent.RESPONSE, savedResponse.getId(), "ResponseCreated", OutboxService.payload(
+            "queryId", response.getQuery().getId(),
+            "authorId", savedResponse.getAuthor() != null ? savedResponse.getAuthor().getId() : null));
         
         return savedResponse;
     }
     
+    @Transactional
     public Response updateResponse(String id, Response responseDetails) {
-        Response response = responseRepository.findById(id)
+        Response response = findResponse(id)
             .orElseThrow(() -> new RuntimeException("Response not found"));
         
         response.setContent(responseDetails.getContent());
         response.setIsAccepted(responseDetails.getIsAccepted());
         
-        return responseRepository.save(response);
+        Response savedResponse = responseRepository.save(response);
+        outboxService.record(DomainEvent.RESPONSE, id, "ResponseUpdated", OutboxService.payload(
+            "queryId", savedResponse.getQuery().getId(), "accepted", savedResponse.getIsAccepted()));
+        return savedResponse;
     }
     
+    @Transactional
     public void deleteResponse(String id) {
-        Response response = responseRepository.findById(id)
+        Response response = findResponse(id)
             .orElseThrow(() -> new RuntimeException("Response not found"));
         
         String queryId = response.getQuery().getId();
@@ -59,9 +72,13 @@ public class ResponseService {
         
         // Update query response count
         updateQueryResponseCount(queryId);
+        outboxService.record(DomainEvent.RESPONSE, id, "ResponseDeleted", OutboxService.payload("queryId", queryId));
     }
     
     public List<Response> getResponsesByQuery(String queryId) {
+        if (!NativeUuidType.isUuid(queryId)) {
+            return List.of();
+        }
         return responseRepository.findByQueryIdOrderByCreatedAtDesc(queryId);
     }
     
@@ -94,4 +111,9 @@ public class ResponseService {
         query.setResponseCount((int) responseCount);
         queryRepository.save(query);
     }
+
+    // A malformed id can't match a row, and binding it to the uuid column would throw
+    private Optional<Response> findResponse(String id) {
+        return NativeUuidType.isUuid(id) ? responseRepository.findById(id) : Optional.empty();
+    }
 }
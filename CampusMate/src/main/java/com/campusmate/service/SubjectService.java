@@ -4,6 +4,7 @@ import com.campusmate.entity.Subject;
 import com.campusmate.repository.SubjectRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,10 +16,15 @@ public class SubjectService {
     @Autowired
     private SubjectRepository subjectRepository;
     
+    @Autowired
+    private CourseCatalogService courseCatalogService;
+    
+    @Transactional(readOnly = true)
     public List<Subject> getAllSubjects() {
         return subjectRepository.findAll();
     }
     
+    @Transactional(readOnly = true)
     public Optional<Subject> getSubjectById(String id) {
         return subjectRepository.findById(id);
     }
@@ -28,6 +34,7 @@ public class SubjectService {
         return subjectRepository.save(subject);
     }
     
+    @Transactional
     public Subject updateSubject(String id, Subject subjectDetails) {
         Subject subject = subjectRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Subject not found"));
@@ -40,29 +47,38 @@ public class SubjectService {
         subject.setPrerequisites(subjectDetails.getPrerequisites());
         subject.setTopics(subjectDetails.getTopics());
         
-        return subjectRepository.save(subject);
+        Subject savedSubject = subjectRepository.save(subject);
+        
+        // Catalog rows carry the subject name
+        courseCatalogService.refreshSubject(id);
+        return savedSubject;
     }
     
     public void deleteSubject(String id) {
         subjectRepository.deleteById(id);
     }
     
+    @Transactional(readOnly = true)
     public List<Subject> getSubjectsByDepartment(String department) {
         return subjectRepository.findByDepartment(department);
     }
     
+    @Transactional(readOnly = true)
     public List<Subject> getSubjectsByDifficulty(String difficulty) {
         return subjectRepository.findByDifficulty(difficulty);
     }
     
+    @Transactional(readOnly = true)
     public List<Subject> searchSubjects(String keyword) {
         return subjectRepository.searchByKeyword(keyword);
     }
     
+    @Transactional(readOnly = true)
     public List<Subject> getSubjectsByCredits(Integer credits) {
         return subjectRepository.findByCredits(credits);
     }
     
+    @Transactional(readOnly = true)
     public List<Subject> getSubjectsByPrerequisite(String prerequisite) {
         return subjectRepository.findByPrerequisite(prerequisite);
     }
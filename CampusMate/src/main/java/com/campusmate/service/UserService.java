@@ -7,9 +7,11 @@ import com.campusmate.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -18,7 +20,6 @@ import java.util.Optional;
  * Service for user management operations
  */
 @Service
-@Transactional
 public class UserService {
 
     private static final Logger log = LoggerFactory.getLogger(UserService.class);
@@ -27,14 +28,24 @@ public class UserService {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Autowired
     private EmailVerificationService emailVerificationService;
 
+    @Autowired
+    private EmailJobHandler emailJobHandler;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     /**
      * Register a new user
+     *
+     * Runs outside a transaction so BCrypt doesn't hold a pooled connection; only the
+     * inserts run in a short transaction of their own.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User registerUser(RegisterRequest request) {
         log.info("Registering new user with email: {}", request.getEmail());
 
@@ -55,7 +66,7 @@ public class UserService {
         // Create new user
         User user = new User();
         user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHashingService.hash(request.getPassword()));
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
         user.setRole(request.getRole() != null ? request.getRole() : UserRole.STUDENT);
@@ -65,27 +76,32 @@ public class UserService {
         user.setCreatedAt(LocalDateTime.now());
         user.setUpdatedAt(LocalDateTime.now());
 
-        User savedUser = userRepository.save(user);
-        log.info("User registered successfully with ID: {}", savedUser.getId());
-        
-        // Generate and send verification email (MANDATORY)
-        try {
-            String token = emailVerificationService.generateVerificationToken(savedUser);
-            emailVerificationService.resendVerificationEmail(savedUser);
-            log.info("Verification email sent to user: {}", savedUser.getEmail());
-        } catch (Exception e) {
-            log.error("Failed to send verification email to user: {}", savedUser.getEmail(), e);
-            // Email verification is mandatory - if it fails, we need to clean up the user
-            userRepository.delete(savedUser);
-            throw new RuntimeException("Registration failed: Could not send verification email. Please check your email configuration: " + e.getMessage());
-        }
+        // The verification email is queued in the same transaction: a user never exists
+        // without one on the way, and an SMTP hiccup is retried instead of failing sign-up
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        User savedUser = transactionTemplate.execute(status -> {
+            User saved = userRepository.save(user);
+            String token = emailVerificationService.generateVerificationToken(saved);
+            emailJobHandler.enqueueVerificationEmail(saved.getEmail(), token, saved.getFirstName());
+            return saved;
+        });
+        log.info("User registered successfully with ID: {}, verification email queued", savedUser.getId());
         
         return savedUser;
     }
 
+    /**
+     * Replace a user's stored password hash, e.g. after the BCrypt cost was raised
+     */
+    @Transactional
+    public void updatePasswordHash(String userId, String passwordHash) {
+        userRepository.updatePassword(userId, passwordHash);
+    }
+
     /**
      * Find user by email
      */
+    @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
         return userRepository.findByEmail(email);
     }
@@ -93,6 +109,7 @@ public class UserService {
     /**
      * Find user by ID
      */
+    @Transactional(readOnly = true)
     public Optional<User> findById(String id) {
         return userRepository.findById(id);
     }
@@ -100,6 +117,7 @@ public class UserService {
     /**
      * Check if user exists by email
      */
+    @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
         return userRepository.existsByEmail(email);
     }
@@ -107,6 +125,7 @@ public class UserService {
     /**
      * Check if user exists by student ID
      */
+    @Transactional(readOnly = true)
     public boolean existsByStudentId(String studentId) {
         return userRepository.existsByStudentId(studentId);
     }
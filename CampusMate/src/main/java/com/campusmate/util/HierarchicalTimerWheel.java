@@ -0,0 +1,181 @@
+package com.campusmate.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hierarchical hashed timer wheel keyed by an arbitrary timer id.
+ *
+ * Level 0 has one bucket per tick; each higher level covers wheelSize times the span
+ * of the level below. Timers cascade down a level whenever the wheel crosses a
+ * boundary of their level, so scheduling, cancelling and expiring are all O(1)
+ * amortized no matter how far out a deadline is. Deadlines beyond the top level
+ * wait in an overflow set and are re-examined whenever the top level turns a slot.
+ *
+ * Not thread-safe; callers synchronize around it.
+ */
+public class HierarchicalTimerWheel<K> {
+
+    private final long tickMillis;
+    private final int bitsPerLevel;
+    private final int mask;
+    private final int levels;
+
+    private final List<List<Set<K>>> wheels;
+    private final Set<K> overflow = new LinkedHashSet<>();
+    private final Set<K> due = new LinkedHashSet<>();
+    private final Map<K, Timer> timers = new HashMap<>();
+
+    private long currentTick;
+
+    /**
+     * @param tickMillis  resolution of the wheel
+     * @param wheelSize   buckets per level, must be a power of two
+     * @param levels      number of levels
+     * @param nowMillis   wall-clock time the wheel starts at
+     */
+    public HierarchicalTimerWheel(long tickMillis, int wheelSize, int levels, long nowMillis) {
+        if (tickMillis <= 0 || levels <= 0 || wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Invalid timer wheel dimensions");
+        }
+        this.tickMillis = tickMillis;
+        this.bitsPerLevel = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.levels = levels;
+        this.currentTick = nowMillis / tickMillis;
+
+        this.wheels = new ArrayList<>(levels);
+        for (int level = 0; level < levels; level++) {
+            List<Set<K>> buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new LinkedHashSet<>());
+            }
+            wheels.add(buckets);
+        }
+    }
+
+    /**
+     * Schedule (or reschedule) a timer to expire at the given wall-clock time
+     */
+    public void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        place(key, new Timer(Math.floorDiv(deadlineMillis, tickMillis)));
+    }
+
+    /**
+     * Cancel a timer, returning whether it was pending
+     */
+    public boolean cancel(K key) {
+        Timer timer = timers.remove(key);
+        if (timer == null) {
+            return false;
+        }
+        bucketOf(timer).remove(key);
+        return true;
+    }
+
+    public boolean contains(K key) {
+        return timers.containsKey(key);
+    }
+
+    public int size() {
+        return timers.size();
+    }
+
+    /**
+     * Advance the wheel to the given time and return every timer that expired on the way,
+     * in expiry order
+     */
+    public List<K> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        List<K> expired = new ArrayList<>(drain(due));
+
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            expired.addAll(drain(wheels.get(0).get((int) (currentTick & mask))));
+            // Timers cascading onto exactly this tick land in the due set
+            expired.addAll(drain(due));
+        }
+        return expired;
+    }
+
+    private void cascade() {
+        // Highest level first, so timers cascading through several levels settle in one tick
+        for (int level = levels - 1; level >= 1; level--) {
+            long span = 1L << (bitsPerLevel * level);
+            if ((currentTick & (span - 1)) != 0) {
+                continue;
+            }
+            if (level == levels - 1 && !overflow.isEmpty()) {
+                reinsert(overflow);
+            }
+            reinsert(wheels.get(level).get(slotIndex(currentTick, level)));
+        }
+    }
+
+    private void reinsert(Set<K> bucket) {
+        List<K> keys = new ArrayList<>(bucket);
+        bucket.clear();
+        for (K key : keys) {
+            place(key, timers.get(key));
+        }
+    }
+
+    private List<K> drain(Set<K> bucket) {
+        List<K> keys = new ArrayList<>(bucket);
+        bucket.clear();
+        for (K key : keys) {
+            timers.remove(key);
+        }
+        return keys;
+    }
+
+    private void place(K key, Timer timer) {
+        long ticksAway = timer.deadlineTick - currentTick;
+        timer.level = -1;
+        if (ticksAway <= 0) {
+            timer.level = Timer.DUE;
+        } else {
+            for (int level = 0; level < levels; level++) {
+                if (ticksAway < (1L << (bitsPerLevel * (level + 1)))) {
+                    timer.level = level;
+                    timer.slot = slotIndex(timer.deadlineTick, level);
+                    break;
+                }
+            }
+        }
+        timers.put(key, timer);
+        bucketOf(timer).add(key);
+    }
+
+    private Set<K> bucketOf(Timer timer) {
+        if (timer.level == Timer.DUE) {
+            return due;
+        }
+        if (timer.level < 0) {
+            return overflow;
+        }
+        return wheels.get(timer.level).get(timer.slot);
+    }
+
+    private int slotIndex(long tick, int level) {
+        return (int) ((tick >>> (bitsPerLevel * level)) & mask);
+    }
+
+    private static final class Timer {
+        static final int DUE = Integer.MIN_VALUE;
+
+        final long deadlineTick;
+        int level;
+        int slot;
+
+        Timer(long deadlineTick) {
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
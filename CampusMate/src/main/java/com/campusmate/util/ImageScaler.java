@@ -0,0 +1,255 @@
+package com.campusmate.util;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Memory-conscious image decoding and downscaling with ImageIO.
+ *
+ * Large images are decoded with source subsampling, so a 48 MP phone photo never becomes a
+ * full-resolution raster on the heap just to produce a small rendition. The final step is a
+ * bicubic resample from at most twice the target size, which keeps quality without the cost
+ * of scaling the full image. EXIF orientation is applied while decoding, so phone photos
+ * come out upright even though ImageIO itself ignores it.
+ */
+public final class ImageScaler {
+
+    private ImageScaler() {}
+
+    /**
+     * Source dimensions and decoded, downscaled image
+     */
+    public static final class Scaled {
+        private final int sourceWidth;
+        private final int sourceHeight;
+        private final BufferedImage image;
+        private final boolean transparent;
+
+        Scaled(int sourceWidth, int sourceHeight, BufferedImage image, boolean transparent) {
+            this.sourceWidth = sourceWidth;
+            this.sourceHeight = sourceHeight;
+            this.image = image;
+            this.transparent = transparent;
+        }
+
+        public int getSourceWidth() { return sourceWidth; }
+        public int getSourceHeight() { return sourceHeight; }
+        public BufferedImage getImage() { return image; }
+        public boolean isTransparent() { return transparent; }
+    }
+
+    /**
+     * Decode an image so that neither side exceeds maxDimension
+     *
+     * @param maxSourcePixels  images larger than this are refused before decoding
+     * @throws IOException when the data is not a readable image or is too large
+     */
+    public static Scaled read(byte[] data, int maxDimension, long maxSourcePixels) throws IOException {
+        return read(data, maxDimension, maxSourcePixels, false);
+    }
+
+    /**
+     * Decode an image so that neither side exceeds maxDimension
+     *
+     * @param keepAlpha  keep transparency instead of flattening onto white
+     */
+    public static Scaled read(byte[] data, int maxDimension, long maxSourcePixels, boolean keepAlpha) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxSourcePixels) {
+                    throw new IOException("Image is too large to process: " + width + "x" + height);
+                }
+
+                // Subsample down to no less than twice the target, then resample properly
+                int subsampling = Math.max(1, Math.max(width, height) / (maxDimension * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+                boolean transparent = decoded.getColorModel().hasAlpha();
+
+                int orientation = readExifOrientation(data);
+                if (orientation >= 5) {
+                    // Rotated a quarter turn: the displayed image is height x width
+                    int swap = width;
+                    width = height;
+                    height = swap;
+                }
+                BufferedImage upright = orient(decoded, orientation);
+                return new Scaled(width, height, fit(upright, maxDimension, keepAlpha && transparent), transparent);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Resize so the longer side is at most maxDimension, flattening transparency onto white
+     */
+    public static BufferedImage fit(BufferedImage source, int maxDimension) {
+        return fit(source, maxDimension, false);
+    }
+
+    /**
+     * Resize so the longer side is at most maxDimension
+     *
+     * @param keepAlpha  keep transparency instead of flattening onto white
+     */
+    public static BufferedImage fit(BufferedImage source, int maxDimension, boolean keepAlpha) {
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height,
+            keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            if (!keepAlpha) {
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+            }
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * Encode as baseline JPEG at the given quality (0..1)
+     */
+    public static byte[] toJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Encode as PNG, for images that need to keep transparency
+     */
+    public static byte[] toPng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, "png", out)) {
+            throw new IOException("No PNG encoder available");
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * EXIF orientation (1-8) of a JPEG, or 1 when absent or unreadable
+     */
+    static int readExifOrientation(byte[] data) {
+        if (data.length < 4 || (data[0] & 0xFF) != 0xFF || (data[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+        int pos = 2;
+        while (pos + 4 <= data.length && (data[pos] & 0xFF) == 0xFF) {
+            int marker = data[pos + 1] & 0xFF;
+            int length = ((data[pos + 2] & 0xFF) << 8) | (data[pos + 3] & 0xFF);
+            if (marker == 0xDA || length < 2) {
+                break; // Start of scan: no more metadata segments
+            }
+            int segment = pos + 4;
+            if (marker == 0xE1 && segment + 14 <= data.length && segment + length - 2 <= data.length
+                && data[segment] == 'E' && data[segment + 1] == 'x' && data[segment + 2] == 'i' && data[segment + 3] == 'f') {
+                return readTiffOrientation(data, segment + 6, segment + length - 2);
+            }
+            pos = segment + length - 2;
+        }
+        return 1;
+    }
+
+    private static int readTiffOrientation(byte[] data, int tiff, int end) {
+        boolean littleEndian = data[tiff] == 'I' && data[tiff + 1] == 'I';
+        int ifd = tiff + readInt(data, tiff + 4, littleEndian);
+        if (ifd < tiff || ifd + 2 > end) {
+            return 1;
+        }
+        int entries = readShort(data, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if (readShort(data, entry, littleEndian) == 0x0112) {
+                int orientation = readShort(data, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readShort(byte[] data, int pos, boolean littleEndian) {
+        int a = data[pos] & 0xFF;
+        int b = data[pos + 1] & 0xFF;
+        return littleEndian ? (b << 8) | a : (a << 8) | b;
+    }
+
+    private static int readInt(byte[] data, int pos, boolean littleEndian) {
+        int high = readShort(data, littleEndian ? pos + 2 : pos, littleEndian);
+        int low = readShort(data, littleEndian ? pos : pos + 2, littleEndian);
+        return (high << 16) | low;
+    }
+
+    /**
+     * Apply an EXIF orientation so the image displays upright
+     */
+    private static BufferedImage orient(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform;
+        switch (orientation) {
+            case 2: transform = new AffineTransform(-1, 0, 0, 1, w, 0); break;   // mirror
+            case 3: transform = new AffineTransform(-1, 0, 0, -1, w, h); break;  // 180
+            case 4: transform = new AffineTransform(1, 0, 0, -1, 0, h); break;   // flip
+            case 5: transform = new AffineTransform(0, 1, 1, 0, 0, 0); break;    // transpose
+            case 6: transform = new AffineTransform(0, 1, -1, 0, h, 0); break;   // 90 clockwise
+            case 7: transform = new AffineTransform(0, -1, -1, 0, h, w); break;  // transverse
+            case 8: transform = new AffineTransform(0, -1, 1, 0, 0, w); break;   // 90 counter-clockwise
+            default: return image;
+        }
+        boolean quarterTurn = orientation >= 5;
+        BufferedImage target = new BufferedImage(quarterTurn ? h : w, quarterTurn ? w : h,
+            image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,51 @@
+package com.campusmate.util;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Small transaction helpers shared by the services
+ */
+public final class Transactions {
+
+    private Transactions() {}
+
+    /**
+     * Run an action after the surrounding transaction commits, or right away if there is none
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Repeat a batch delete, each batch in its own transaction, until a batch comes back short,
+     * so no single statement holds row locks on the whole backlog
+     *
+     * @param deleteBatch deletes at most batchSize rows and returns how many it deleted
+     * @return rows deleted in total
+     */
+    public static int deleteInBatches(PlatformTransactionManager transactionManager, int batchSize, IntSupplier deleteBatch) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int total = 0;
+        int deleted;
+        do {
+            Integer batch = transactionTemplate.execute(status -> deleteBatch.getAsInt());
+            deleted = batch != null ? batch : 0;
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+}
@@ -0,0 +1,16 @@
+-- Migration V10: Move course material payloads out of course_materials
+-- Binary content lives in course_material_contents and is read only when a file is
+-- actually served, so listing, updating or deleting materials never pulls the bytes.
+
+CREATE TABLE IF NOT EXISTS course_material_contents (
+    material_id VARCHAR(255) PRIMARY KEY,
+    data BYTEA NOT NULL,
+    FOREIGN KEY (material_id) REFERENCES course_materials(id) ON DELETE CASCADE
+);
+
+INSERT INTO course_material_contents (material_id, data)
+SELECT id, file_data FROM course_materials WHERE file_data IS NOT NULL
+ON CONFLICT (material_id) DO NOTHING;
+
+DROP INDEX IF EXISTS idx_course_materials_file_data;
+ALTER TABLE course_materials DROP COLUMN IF EXISTS file_data;
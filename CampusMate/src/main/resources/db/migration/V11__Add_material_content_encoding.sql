@@ -0,0 +1,14 @@
+-- Migration V11: Content encoding for stored material payloads
+-- Text materials are stored gzip-compressed and served as-is to clients that accept gzip.
+-- Legacy text materials kept as base64 data: URLs move into the content table unencoded.
+
+ALTER TABLE course_material_contents ADD COLUMN IF NOT EXISTS encoding VARCHAR(16) NOT NULL DEFAULT 'identity';
+
+INSERT INTO course_material_contents (material_id, data, encoding)
+SELECT id, decode(substring(file_url FROM position(',' IN file_url) + 1), 'base64'), 'identity'
+FROM course_materials
+WHERE file_url LIKE 'data:%;base64,%'
+ON CONFLICT (material_id) DO NOTHING;
+
+UPDATE course_materials SET file_url = 'text://' || file_name
+WHERE file_url LIKE 'data:%;base64,%';
@@ -0,0 +1,37 @@
+-- Migration V12: Resumable chunked uploads
+-- Each chunk is verified against its SHA-256 and stored as its own row, so neither
+-- uploading nor serving a large file ever needs the whole payload in memory.
+
+CREATE TABLE IF NOT EXISTS material_uploads (
+    id VARCHAR(255) PRIMARY KEY,
+    course_id VARCHAR(255) NOT NULL,
+    uploaded_by VARCHAR(255) NOT NULL,
+    material_id VARCHAR(255),
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    type VARCHAR(255) NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    total_size BIGINT NOT NULL,
+    chunk_size INTEGER NOT NULL,
+    chunk_count INTEGER NOT NULL,
+    status VARCHAR(16) NOT NULL DEFAULT 'UPLOADING',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (course_id) REFERENCES courses(id) ON DELETE CASCADE,
+    FOREIGN KEY (uploaded_by) REFERENCES users(id) ON DELETE CASCADE,
+    FOREIGN KEY (material_id) REFERENCES course_materials(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_material_upload_course ON material_uploads(course_id);
+CREATE INDEX IF NOT EXISTS idx_material_upload_material ON material_uploads(material_id);
+CREATE INDEX IF NOT EXISTS idx_material_upload_expires ON material_uploads(expires_at);
+
+CREATE TABLE IF NOT EXISTS material_chunks (
+    upload_id VARCHAR(255) NOT NULL,
+    chunk_index INTEGER NOT NULL,
+    size INTEGER NOT NULL,
+    sha256 VARCHAR(64) NOT NULL,
+    data BYTEA NOT NULL,
+    PRIMARY KEY (upload_id, chunk_index),
+    FOREIGN KEY (upload_id) REFERENCES material_uploads(id) ON DELETE CASCADE
+);
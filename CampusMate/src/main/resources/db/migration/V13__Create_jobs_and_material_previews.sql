@@ -0,0 +1,41 @@
+-- Migration V13: Background job queue and material previews
+-- Workers claim jobs with FOR UPDATE SKIP LOCKED under a lease, so several nodes can poll
+-- the same queue without blocking each other and a crashed worker's jobs come back.
+
+CREATE TABLE IF NOT EXISTS jobs (
+    id VARCHAR(255) PRIMARY KEY,
+    queue VARCHAR(64) NOT NULL,
+    payload TEXT,
+    status VARCHAR(16) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    run_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    locked_until TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_jobs_queue_due ON jobs(queue, status, run_at);
+CREATE INDEX IF NOT EXISTS idx_jobs_lease ON jobs(status, locked_until);
+
+CREATE TABLE IF NOT EXISTS material_previews (
+    material_id VARCHAR(255) PRIMARY KEY,
+    thumbnail BYTEA,
+    extracted_text TEXT,
+    page_count INTEGER,
+    image_width INTEGER,
+    image_height INTEGER,
+    processed_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (material_id) REFERENCES course_materials(id) ON DELETE CASCADE
+);
+
+-- Full-text search over extracted text
+CREATE INDEX IF NOT EXISTS idx_material_preview_text
+    ON material_previews USING GIN (to_tsvector('simple', COALESCE(extracted_text, '')));
+
+-- Queue materials that were uploaded before processing existed
+INSERT INTO jobs (id, queue, payload)
+SELECT gen_random_uuid()::text, 'material-processing', m.id
+FROM course_materials m
+JOIN course_material_contents c ON c.material_id = m.id
+WHERE m.file_url LIKE 'text://%'
+   OR lower(m.file_name) ~ '\.(pdf|png|jpe?g|gif|docx|txt)$';
@@ -0,0 +1,20 @@
+-- Migration V14: Web-sized image renditions
+-- Downloads serve the rendition by default (?original=true for the upload); the original
+-- payload in course_material_contents is never modified.
+
+CREATE TABLE IF NOT EXISTS material_renditions (
+    material_id VARCHAR(255) PRIMARY KEY,
+    data BYTEA NOT NULL,
+    content_type VARCHAR(32) NOT NULL,
+    width INTEGER NOT NULL,
+    height INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (material_id) REFERENCES course_materials(id) ON DELETE CASCADE
+);
+
+-- Images processed before renditions existed need another pass
+INSERT INTO jobs (id, queue, payload)
+SELECT gen_random_uuid()::text, 'material-processing', p.material_id
+FROM material_previews p
+JOIN course_materials m ON m.id = p.material_id
+WHERE lower(m.file_name) ~ '\.(png|jpe?g)$';
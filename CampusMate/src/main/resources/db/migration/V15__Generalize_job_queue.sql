@@ -0,0 +1,7 @@
+-- Migration V15: General job queue
+-- Jobs that run out of attempts are now dead-lettered as DEAD and kept until an admin
+-- retries them (POST /admin/jobs/{id}/retry).
+
+UPDATE jobs SET status = 'DEAD' WHERE status = 'FAILED';
+
+CREATE INDEX IF NOT EXISTS idx_jobs_status_created ON jobs(status, created_at);
@@ -0,0 +1,16 @@
+-- Migration V16: Run history of cluster-wide scheduled tasks
+-- Only the node that wins a task's advisory lock runs it and records the run here.
+
+CREATE TABLE IF NOT EXISTS scheduled_task_runs (
+    id VARCHAR(255) PRIMARY KEY,
+    task_name VARCHAR(128) NOT NULL,
+    node VARCHAR(255) NOT NULL,
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP NOT NULL,
+    duration_ms BIGINT NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    error TEXT
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_run_name_started ON scheduled_task_runs(task_name, started_at);
+CREATE INDEX IF NOT EXISTS idx_task_run_started ON scheduled_task_runs(started_at);
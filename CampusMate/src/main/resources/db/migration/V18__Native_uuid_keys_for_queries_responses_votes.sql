@@ -0,0 +1,59 @@
+-- Migration V18: Native uuid keys for queries, responses and votes
+-- New ids are time-ordered UUIDv7 (see TimeOrderedUuid), stored as 16-byte uuid instead of
+-- 36-character VARCHAR. Existing random v4 ids are valid UUIDs and convert in place, so those
+-- ids keep working for clients. Legacy non-UUID ids (the 'query-1' style seed rows) are
+-- replaced by md5-derived UUIDs, identically in every column that refers to them; the old
+-- ids stop resolving and the API answers 404 for them.
+--
+-- Flyway is disabled and ddl-auto: update never changes a column's type, so apply this file
+-- by hand to existing databases (see README, Database Schema).
+--
+-- Other tables keep VARCHAR ids for now (their new ids are UUIDv7 strings, which already sort
+-- by time) and can follow the same steps: drop the foreign keys pointing at the table, convert
+-- the key and every column referring to it, restore the foreign keys.
+
+CREATE FUNCTION pg_temp.to_uuid(value TEXT) RETURNS UUID AS $$
+    SELECT CASE
+        WHEN value ~* '^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$' THEN value::uuid
+        ELSE md5(value)::uuid
+    END
+$$ LANGUAGE sql IMMUTABLE;
+
+DO $$
+DECLARE
+    fk RECORD;
+    restore TEXT[] := ARRAY[]::TEXT[];
+    statement TEXT;
+BEGIN
+    -- Constraint names differ between the SQL and Hibernate-created schemas, so look them up
+    FOR fk IN
+        SELECT con.conname, con.conrelid::regclass AS table_name, pg_get_constraintdef(con.oid) AS definition
+        FROM pg_constraint con
+        WHERE con.contype = 'f'
+          AND con.confrelid IN ('queries'::regclass, 'responses'::regclass)
+    LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.table_name, fk.conname);
+        restore := restore || format('ALTER TABLE %s ADD CONSTRAINT %I %s', fk.table_name, fk.conname, fk.definition);
+    END LOOP;
+
+    ALTER TABLE queries
+        ALTER COLUMN id TYPE UUID USING pg_temp.to_uuid(id);
+    ALTER TABLE responses
+        ALTER COLUMN id TYPE UUID USING pg_temp.to_uuid(id),
+        ALTER COLUMN query_id TYPE UUID USING pg_temp.to_uuid(query_id);
+    ALTER TABLE query_tags
+        ALTER COLUMN query_id TYPE UUID USING pg_temp.to_uuid(query_id);
+    ALTER TABLE votes
+        ALTER COLUMN id TYPE UUID USING pg_temp.to_uuid(id),
+        ALTER COLUMN target_id TYPE UUID USING pg_temp.to_uuid(target_id);
+
+    FOREACH statement IN ARRAY restore LOOP
+        EXECUTE statement;
+    END LOOP;
+END $$;
+
+-- The type change rewrote the tables and rebuilt their indexes; refresh planner statistics
+ANALYZE queries;
+ANALYZE responses;
+ANALYZE query_tags;
+ANALYZE votes;
@@ -0,0 +1,16 @@
+-- Migration V5: Denormalized pending join request counters
+-- Dashboard badges read these instead of counting project_join_requests joined with projects
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS pending_request_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS pending_join_request_count INTEGER NOT NULL DEFAULT 0;
+
+-- Backfill from existing pending requests
+UPDATE projects p SET pending_request_count = (
+    SELECT COUNT(*) FROM project_join_requests r
+    WHERE r.project_id = p.id AND r.status = 'PENDING'
+);
+
+UPDATE users u SET pending_join_request_count = (
+    SELECT COALESCE(SUM(p.pending_request_count), 0) FROM projects p
+    WHERE p.leader_id = u.id
+);
@@ -0,0 +1,10 @@
+-- Migration V6: Project deadline reminders and overdue status
+-- The deadline scheduler marks reminders as sent and moves late projects to OVERDUE
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS reminder_sent_at TIMESTAMP;
+
+ALTER TABLE projects DROP CONSTRAINT IF EXISTS projects_status_check;
+ALTER TABLE projects ADD CONSTRAINT projects_status_check
+    CHECK (status IN ('RECRUITING', 'ACTIVE', 'COMPLETED', 'PAUSED', 'OVERDUE'));
+
+CREATE INDEX IF NOT EXISTS idx_project_deadline ON projects(deadline);
@@ -0,0 +1,23 @@
+-- Migration V7: Capacity-safe enrollment
+-- courses.enrolled_count is checked and incremented atomically on registration,
+-- course_waitlist queues students first-come-first-served once a course is full
+
+ALTER TABLE courses ADD COLUMN IF NOT EXISTS enrolled_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE courses c SET enrolled_count = (
+    SELECT COUNT(*) FROM enrollments e
+    WHERE e.course_id = c.id AND e.is_active = TRUE
+);
+
+CREATE TABLE IF NOT EXISTS course_waitlist (
+    id VARCHAR(255) PRIMARY KEY,
+    course_id VARCHAR(255) NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+    queued_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (course_id) REFERENCES courses(id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_waitlist_course_queue ON course_waitlist(course_id, queued_at);
+CREATE INDEX IF NOT EXISTS idx_waitlist_user ON course_waitlist(user_id);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_waitlist_unique ON course_waitlist(course_id, user_id);
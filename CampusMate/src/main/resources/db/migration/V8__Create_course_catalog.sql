@@ -0,0 +1,45 @@
+-- Migration V8: Course catalog read model
+-- One flattened row per course with subject/professor names and enrollment/material counts,
+-- maintained incrementally by CourseCatalogService so listing the catalog is a single scan
+
+-- Mapped on Course but never added by an earlier migration
+ALTER TABLE courses ADD COLUMN IF NOT EXISTS difficulty_level VARCHAR(20);
+
+CREATE TABLE IF NOT EXISTS course_catalog (
+    course_id VARCHAR(255) PRIMARY KEY,
+    code VARCHAR(20) NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    semester VARCHAR(20) NOT NULL,
+    year VARCHAR(4) NOT NULL,
+    credits INTEGER NOT NULL,
+    max_students INTEGER NOT NULL,
+    difficulty_level VARCHAR(20),
+    is_active BOOLEAN NOT NULL,
+    subject_id VARCHAR(255) NOT NULL,
+    subject_code VARCHAR(20),
+    subject_name VARCHAR(100),
+    professor_id VARCHAR(255) NOT NULL,
+    professor_first_name VARCHAR(255),
+    professor_last_name VARCHAR(255),
+    enrolled_count INTEGER NOT NULL DEFAULT 0,
+    material_count INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    FOREIGN KEY (course_id) REFERENCES courses(id) ON DELETE CASCADE
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_catalog_code ON course_catalog(code);
+CREATE INDEX IF NOT EXISTS idx_catalog_subject ON course_catalog(subject_id);
+CREATE INDEX IF NOT EXISTS idx_catalog_professor ON course_catalog(professor_id);
+
+INSERT INTO course_catalog (course_id, code, title, description, semester, year, credits, max_students,
+    difficulty_level, is_active, subject_id, subject_code, subject_name, professor_id, professor_first_name,
+    professor_last_name, enrolled_count, material_count, created_at, updated_at)
+SELECT c.id, c.code, c.title, c.description, c.semester, c.year, c.credits, c.max_students,
+    c.difficulty_level, c.is_active, s.id, s.code, s.name, u.id, u.first_name, u.last_name,
+    c.enrolled_count, (SELECT COUNT(*) FROM course_materials m WHERE m.course_id = c.id), c.created_at, c.updated_at
+FROM courses c
+JOIN subjects s ON c.subject_id = s.id
+JOIN users u ON c.professor_id = u.id
+ON CONFLICT (course_id) DO NOTHING;
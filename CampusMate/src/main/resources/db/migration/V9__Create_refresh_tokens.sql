@@ -0,0 +1,32 @@
+-- Migration V9: Refresh-token rotation
+-- Every login starts a token family; each refresh marks the presented token used and
+-- issues the next one in the same family. Presenting a used token again revokes the
+-- whole family. Only SHA-256 hashes of the tokens are stored.
+
+CREATE TABLE IF NOT EXISTS refresh_token_families (
+    id VARCHAR(255) PRIMARY KEY,
+    user_id VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP,
+    revoke_reason VARCHAR(32),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_family_user ON refresh_token_families(user_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_family_expires ON refresh_token_families(expires_at);
+-- The revocation index polls recently revoked families
+CREATE INDEX IF NOT EXISTS idx_refresh_family_revoked ON refresh_token_families(revoked_at) WHERE revoked_at IS NOT NULL;
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id VARCHAR(255) PRIMARY KEY,
+    family_id VARCHAR(255) NOT NULL,
+    token_hash VARCHAR(64) NOT NULL,
+    issued_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    used_at TIMESTAMP,
+    FOREIGN KEY (family_id) REFERENCES refresh_token_families(id) ON DELETE CASCADE
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_refresh_token_hash ON refresh_tokens(token_hash);
+CREATE INDEX IF NOT EXISTS idx_refresh_token_family ON refresh_tokens(family_id);
@@ -1,10 +1,8 @@
 package com.campusmate;
 
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
-class CoursemateApplicationTests {
+class CoursemateApplicationTests extends PostgresIntegrationTest {
 
 	@Test
 	void contextLoads() {
@@ -0,0 +1,118 @@
+package com.campusmate;
+
+import com.campusmate.entity.User;
+import com.campusmate.enums.UserRole;
+import com.campusmate.repository.UserRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base class for tests that boot the application against a real Postgres.
+ *
+ * One embedded server is started per JVM and shared by every test context, so tests create
+ * their own users, courses and projects (unique emails and codes) and only assert on those.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public abstract class PostgresIntegrationTest {
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    /**
+     * Save an active, verified student with a unique email
+     */
+    protected User createUser(String firstName) {
+        String email = firstName.toLowerCase() + "-" + UUID.randomUUID() + "@campusmate.test";
+        User user = new User(email, "not-a-real-hash", firstName, "Tester", UserRole.STUDENT);
+        user.setIsVerified(true);
+        return userRepository.save(user);
+    }
+
+    /**
+     * Run the tasks on threads of their own, released at the same moment
+     *
+     * @return per task, in order, what it returned or the exception it threw
+     */
+    protected static List<Object> runConcurrently(List<Callable<Object>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (Callable<Object> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            List<Object> outcomes = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                try {
+                    outcomes.add(future.get(30, TimeUnit.SECONDS));
+                } catch (ExecutionException e) {
+                    outcomes.add(e.getCause());
+                }
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * The exceptions among the outcomes of runConcurrently
+     */
+    protected static List<Throwable> failures(List<Object> outcomes) {
+        List<Throwable> failures = new ArrayList<>();
+        for (Object outcome : outcomes) {
+            if (outcome instanceof Throwable) {
+                failures.add((Throwable) outcome);
+            }
+        }
+        return failures;
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    postgres.close();
+                } catch (IOException e) {
+                    // The JVM is exiting; the data directory is temporary either way
+                }
+            }));
+            return postgres;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start embedded Postgres", e);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.campusmate.service;
+
+import com.campusmate.PostgresIntegrationTest;
+import com.campusmate.dto.request.CreateCourseRequest;
+import com.campusmate.dto.response.EnrollmentResponseDto;
+import com.campusmate.entity.User;
+import com.campusmate.repository.CourseRepository;
+import com.campusmate.repository.EnrollmentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Seat capacity and the FIFO waitlist (EnrollmentService)
+ */
+class EnrollmentServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentRegistrationsNeverOverfillACourse() throws Exception {
+        String courseId = createCourse(3);
+        List<Callable<Object>> registrations = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            User student = createUser("Student");
+            registrations.add(() -> enrollmentService.enroll(courseId, student.getEmail()));
+        }
+
+        List<Object> outcomes = runConcurrently(registrations);
+        assertTrue(failures(outcomes).isEmpty());
+
+        int enrolled = 0;
+        Set<Long> positions = new HashSet<>();
+        for (Object outcome : outcomes) {
+            EnrollmentResponseDto result = (EnrollmentResponseDto) outcome;
+            if (EnrollmentResponseDto.ENROLLED.equals(result.getStatus())) {
+                enrolled++;
+            } else {
+                positions.add(result.getWaitlistPosition());
+            }
+        }
+        assertEquals(3, enrolled);
+        assertEquals(Set.of(1L, 2L, 3L, 4L, 5L), positions);
+        assertEquals(3, enrolledCount(courseId));
+        assertEquals(3, enrollmentRepository.countByCourseIdAndIsActiveTrue(courseId));
+    }
+
+    @Test
+    void droppingHandsTheSeatToTheHeadOfTheWaitlist() {
+        String courseId = createCourse(1);
+        User first = createUser("First");
+        User second = createUser("Second");
+        User third = createUser("Third");
+        enrollmentService.enroll(courseId, first.getEmail());
+        assertEquals(1L, enrollmentService.enroll(courseId, second.getEmail()).getWaitlistPosition());
+        assertEquals(2L, enrollmentService.enroll(courseId, third.getEmail()).getWaitlistPosition());
+
+        enrollmentService.drop(courseId, first.getEmail());
+
+        assertEquals(EnrollmentResponseDto.ENROLLED, statusIn(courseId, second));
+        assertEquals(EnrollmentResponseDto.WAITLISTED, statusIn(courseId, third));
+        assertEquals(1L, enrollmentService.getUserEnrollments(third.getEmail()).get(0).getWaitlistPosition());
+        assertEquals(1, enrolledCount(courseId));
+    }
+
+    @Test
+    void newcomersQueueBehindTheWaitlistForFreedSeats() {
+        String courseId = createCourse(1);
+        User first = createUser("First");
+        User waiting = createUser("Waiting");
+        User newcomer = createUser("Newcomer");
+        enrollmentService.enroll(courseId, first.getEmail());
+        enrollmentService.enroll(courseId, waiting.getEmail());
+
+        // Seats added behind the service's back: the waitlist still goes first
+        jdbcTemplate.update("UPDATE courses SET max_students = 3 WHERE id = ?", courseId);
+        EnrollmentResponseDto result = enrollmentService.enroll(courseId, newcomer.getEmail());
+        assertEquals(EnrollmentResponseDto.WAITLISTED, result.getStatus());
+        assertEquals(2L, result.getWaitlistPosition());
+
+        assertEquals(2, enrollmentService.promoteFromWaitlist(courseId));
+        assertEquals(EnrollmentResponseDto.ENROLLED, statusIn(courseId, waiting));
+        assertEquals(EnrollmentResponseDto.ENROLLED, statusIn(courseId, newcomer));
+        assertEquals(3, enrolledCount(courseId));
+    }
+
+    @Test
+    void aRetriedRegistrationDoesNotTakeASecondSeat() throws Exception {
+        String courseId = createCourse(5);
+        User student = createUser("Student");
+
+        List<Object> outcomes = runConcurrently(List.of(
+            () -> enrollmentService.enroll(courseId, student.getEmail()),
+            () -> enrollmentService.enroll(courseId, student.getEmail())));
+
+        assertEquals(1, failures(outcomes).size());
+        assertEquals(1, enrolledCount(courseId));
+        assertThrows(RuntimeException.class, () -> enrollmentService.enroll(courseId, student.getEmail()));
+    }
+
+    @Test
+    void reEnrollingReusesTheEnrollment() {
+        String courseId = createCourse(2);
+        User student = createUser("Student");
+        enrollmentService.enroll(courseId, student.getEmail());
+        String enrollmentId = enrollmentRepository.findByUserIdAndCourseId(student.getId(), courseId).get().getId();
+
+        enrollmentService.drop(courseId, student.getEmail());
+        assertEquals(0, enrolledCount(courseId));
+        assertEquals(EnrollmentResponseDto.ENROLLED, enrollmentService.enroll(courseId, student.getEmail()).getStatus());
+
+        assertEquals(enrollmentId, enrollmentRepository.findByUserIdAndCourseId(student.getId(), courseId).get().getId());
+        assertEquals(1, enrolledCount(courseId));
+    }
+
+    private String createCourse(int maxStudents) {
+        String code = "T" + UUID.randomUUID().toString().substring(0, 8);
+        CreateCourseRequest request = new CreateCourseRequest();
+        request.setCode(code);
+        request.setTitle("Enrollment test " + code);
+        request.setDescription("Created by EnrollmentServiceTest");
+        request.setProfessorName("Test Professor");
+        request.setSubjectName("Testing");
+        request.setSemester("Fall");
+        request.setYear("2025");
+        request.setCredits(3);
+        request.setMaxStudents(maxStudents);
+        request.setDifficultyLevel("BEGINNER");
+        return courseService.createCourseFromRequest(request).getId();
+    }
+
+    private int enrolledCount(String courseId) {
+        return courseRepository.findById(courseId).get().getEnrolledCount();
+    }
+
+    private String statusIn(String courseId, User student) {
+        for (EnrollmentResponseDto enrollment : enrollmentService.getUserEnrollments(student.getEmail())) {
+            if (courseId.equals(enrollment.getCourseId())) {
+                return enrollment.getStatus();
+            }
+        }
+        return null;
+    }
+}
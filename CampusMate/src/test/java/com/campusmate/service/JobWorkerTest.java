@@ -0,0 +1,251 @@
+package com.campusmate.service;
+
+import com.campusmate.PostgresIntegrationTest;
+import com.campusmate.entity.Job;
+import com.campusmate.repository.JobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Claiming, leases, retries and dead-lettering of the job queue (JobWorker, JobQueueService)
+ */
+@TestPropertySource(properties = {
+    "app.jobs.queues." + JobWorkerTest.QUEUE + ".max-attempts=2",
+    "app.jobs.queues." + JobWorkerTest.QUEUE + ".backoff=1ms"
+})
+class JobWorkerTest extends PostgresIntegrationTest {
+
+    static final String QUEUE = "worker-test";
+
+    @Autowired
+    private JobWorker jobWorker;
+
+    @Autowired
+    private JobQueueService jobQueueService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RecordingHandler handler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void completedJobsAreDeleted() throws Exception {
+        Job job = jobQueueService.enqueue(QUEUE, "complete-" + UUID.randomUUID());
+
+        pollUntil(job.getId(), Optional::isEmpty);
+
+        assertTrue(handler.handled.contains(job.getPayload()));
+    }
+
+    @Test
+    void failingJobsAreRetriedThenDeadLettered() throws Exception {
+        Job job = jobQueueService.enqueue(QUEUE, "fail-" + UUID.randomUUID());
+
+        Job dead = pollUntil(job.getId(), stored -> stored.isPresent() && Job.DEAD.equals(stored.get().getStatus())).get();
+
+        assertEquals(2, dead.getAttempts());
+        assertTrue(dead.getLastError().contains("Refusing " + job.getPayload()));
+        assertTrue(jobQueueService.getDeadJobs(100).stream().anyMatch(j -> j.getId().equals(job.getId())));
+
+        assertTrue(jobQueueService.retryDead(job.getId()));
+        Job retried = jobRepository.findById(job.getId()).get();
+        assertEquals(Job.PENDING, retried.getStatus());
+        assertEquals(0, retried.getAttempts());
+        assertFalse(jobQueueService.retryDead(job.getId()));
+
+        jobRepository.deleteById(job.getId());
+    }
+
+    @Test
+    void jobsWithAnExpiredLeaseAreRunAgain() throws Exception {
+        Job job = jobQueueService.enqueue(QUEUE, "lost-" + UUID.randomUUID());
+        // A worker claimed it and died: the lease has already run out
+        claimWithLapsedLease();
+
+        pollUntil(job.getId(), Optional::isEmpty);
+
+        assertTrue(handler.handled.contains(job.getPayload()));
+    }
+
+    @Test
+    void jobsWhoseLeaseLapsesOnEveryAttemptAreDeadLettered() throws Exception {
+        Job job = jobQueueService.enqueue(QUEUE, "crashing-" + UUID.randomUUID());
+        for (int i = 0; i < 3; i++) {
+            claimWithLapsedLease();
+        }
+
+        Job dead = pollUntil(job.getId(), stored -> stored.isPresent() && Job.DEAD.equals(stored.get().getStatus())).get();
+
+        assertTrue(dead.getLastError().contains("Lease expired on every attempt"));
+        assertFalse(handler.handled.contains(job.getPayload()));
+        jobRepository.deleteById(job.getId());
+    }
+
+    @Test
+    void aRunThatOutlivesItsLeaseLeavesTheJobToTheNewOwner() throws Exception {
+        Job job = jobQueueService.enqueue(QUEUE, "slow-" + UUID.randomUUID());
+        handler.gate = new CountDownLatch(1);
+        jobWorker.poll();
+
+        // While the handler is stuck the lease lapses and another worker claims the job
+        LocalDateTime now = LocalDateTime.now();
+        List<Job> reclaimed = new TransactionTemplate(transactionManager).execute(status -> {
+            jdbcTemplate.update("UPDATE jobs SET locked_until = ? WHERE id = ?", now.minusSeconds(1), job.getId());
+            jobRepository.releaseExpiredLeases(now);
+            return jobRepository.claim(QUEUE, 1, now, now.plusMinutes(5));
+        });
+        assertEquals(job.getId(), reclaimed.get(0).getId());
+        handler.gate.countDown();
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (meterRegistry.find("campusmate.jobs.duration").tags("queue", QUEUE, "outcome", "lost").timer() == null) {
+            assertTrue(System.currentTimeMillis() < deadline, "The stale run never finished");
+            Thread.sleep(50);
+        }
+        Job stored = jobRepository.findById(job.getId()).get();
+        assertEquals(Job.RUNNING, stored.getStatus());
+        assertEquals(reclaimed.get(0).getLockedUntil(), stored.getLockedUntil());
+        jobRepository.deleteById(job.getId());
+    }
+
+    @Test
+    void concurrentClaimsTakeDisjointJobs() throws Exception {
+        // No handler serves this queue, so only the claims below touch its jobs
+        String queue = "claim-test-" + UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < 20; i++) {
+            jobQueueService.enqueue(queue, "job-" + i);
+        }
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Callable<Object>> claimers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            claimers.add(() -> {
+                List<String> claimed = new ArrayList<>();
+                while (true) {
+                    LocalDateTime now = LocalDateTime.now();
+                    List<Job> batch = transactionTemplate.execute(status -> jobRepository.claim(queue, 3, now, now.plusMinutes(5)));
+                    if (batch.isEmpty()) {
+                        return claimed;
+                    }
+                    for (Job job : batch) {
+                        claimed.add(job.getId());
+                    }
+                }
+            });
+        }
+
+        List<Object> outcomes = runConcurrently(claimers);
+
+        assertTrue(failures(outcomes).isEmpty());
+        List<String> all = new ArrayList<>();
+        for (Object outcome : outcomes) {
+            for (Object id : (List<?>) outcome) {
+                all.add((String) id);
+            }
+        }
+        Set<String> distinct = new HashSet<>(all);
+        assertEquals(20, all.size());
+        assertEquals(20, distinct.size());
+        jobRepository.deleteAllById(distinct);
+    }
+
+    private void claimWithLapsedLease() {
+        LocalDateTime now = LocalDateTime.now();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jobRepository.releaseExpiredLeases(now);
+            jobRepository.claim(QUEUE, 1, now, now.minusSeconds(1));
+        });
+    }
+
+    /**
+     * Poll the queues until the job's stored state matches; workers run asynchronously
+     */
+    private Optional<Job> pollUntil(String jobId, Predicate<Optional<Job>> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            jobWorker.poll();
+            Optional<Job> job = jobRepository.findById(jobId);
+            if (condition.test(job)) {
+                return job;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Job " + jobId + " is stuck in state " + job.map(Job::getStatus).orElse("deleted"));
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    /**
+     * Handler for the test queue: payloads starting with "fail" throw, the rest are recorded
+     */
+    static class RecordingHandler implements JobHandler<String> {
+
+        final List<String> handled = new CopyOnWriteArrayList<>();
+
+        // Payloads starting with "slow" wait for this before completing
+        volatile CountDownLatch gate = new CountDownLatch(0);
+
+        @Override
+        public String getQueue() {
+            return QUEUE;
+        }
+
+        @Override
+        public Class<String> getPayloadType() {
+            return String.class;
+        }
+
+        @Override
+        public void handle(String payload) throws InterruptedException {
+            if (payload.startsWith("slow")) {
+                gate.await(10, TimeUnit.SECONDS);
+            }
+            if (payload.startsWith("fail")) {
+                throw new IllegalStateException("Refusing " + payload);
+            }
+            handled.add(payload);
+        }
+    }
+
+    @TestConfiguration
+    static class Handlers {
+
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.campusmate.service;
+
+import com.campusmate.PostgresIntegrationTest;
+import com.campusmate.entity.Query;
+import com.campusmate.enums.QueryStatus;
+import com.campusmate.event.DomainEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ordering, atomicity and redelivery of outbox events (OutboxService, OutboxRelay)
+ */
+@TestPropertySource(properties = "app.outbox.max-attempts=3")
+class OutboxRelayTest extends PostgresIntegrationTest {
+
+    private static final int VOTES = 8;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private QueryService queryService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RecordingListener listener;
+
+    @Test
+    void eventsOfOneAggregateAreDeliveredInCommitOrder() throws Exception {
+        Query query = queryService.createQuery(new Query("Outbox ordering", "Are votes delivered in order?",
+            "General", createUser("Author"), null, QueryStatus.OPEN));
+        List<Callable<Object>> votes = new ArrayList<>();
+        for (int i = 0; i < VOTES; i++) {
+            votes.add(() -> queryService.upvoteQuery(query.getId()));
+        }
+        assertTrue(failures(runConcurrently(votes)).isEmpty());
+
+        outboxRelay.relay();
+
+        // Each event carries the count its transaction committed, so commit order reads 1..n
+        List<Object> delivered = new ArrayList<>();
+        for (DomainEvent event : listener.received(query.getId())) {
+            if ("QueryVoted".equals(event.getType())) {
+                delivered.add(event.getPayload().get("upvotes"));
+            }
+        }
+        List<Object> expected = new ArrayList<>();
+        for (int i = 1; i <= VOTES; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, delivered);
+        assertEquals(0, pendingEvents(query.getId()));
+    }
+
+    @Test
+    void eventsOfRolledBackChangesAreNeverDelivered() {
+        String aggregateId = UUID.randomUUID().toString();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxService.record("Test", aggregateId, "Recorded", OutboxService.payload("key", "value"));
+            status.setRollbackOnly();
+        });
+
+        outboxRelay.relay();
+
+        assertTrue(listener.received(aggregateId).isEmpty());
+        assertEquals(0, pendingEvents(aggregateId));
+        assertThrows(IllegalTransactionStateException.class, () -> outboxService.record("Test", aggregateId, "Outside"));
+    }
+
+    @Test
+    void aFailingListenerIsRetriedThenSkipped() {
+        String broken = UUID.randomUUID().toString();
+        String healthy = UUID.randomUUID().toString();
+        listener.failFor(broken);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxService.record("Test", broken, "Broken");
+            outboxService.record("Test", healthy, "Healthy");
+        });
+
+        // The batch rolls back on each failure, so the event behind the broken one waits
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            outboxRelay.relay();
+            assertTrue(listener.received(healthy).isEmpty());
+        }
+        Map<String, Object> failed = jdbcTemplate.queryForMap(
+            "SELECT status, attempts, last_error FROM outbox_events WHERE aggregate_id = ?", broken);
+        assertEquals("FAILED", failed.get("status"));
+        assertEquals(3, failed.get("attempts"));
+        assertTrue(((String) failed.get("last_error")).contains("Listener down"));
+
+        outboxRelay.relay();
+
+        assertEquals(1, listener.received(healthy).size());
+        assertTrue(listener.received(broken).isEmpty());
+        assertEquals(0, pendingEvents(healthy));
+    }
+
+    private int pendingEvents(String aggregateId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ? AND status = 'PENDING'", Integer.class, aggregateId);
+    }
+
+    /**
+     * Records delivered events; events of aggregates passed to failFor make it throw instead
+     */
+    static class RecordingListener {
+
+        private final List<DomainEvent> received = new CopyOnWriteArrayList<>();
+        private final Set<String> failing = ConcurrentHashMap.newKeySet();
+
+        @EventListener
+        public void on(DomainEvent event) {
+            if (failing.contains(event.getAggregateId())) {
+                throw new IllegalStateException("Listener down for " + event);
+            }
+            received.add(event);
+        }
+
+        void failFor(String aggregateId) {
+            failing.add(aggregateId);
+        }
+
+        List<DomainEvent> received(String aggregateId) {
+            List<DomainEvent> events = new ArrayList<>();
+            for (DomainEvent event : received) {
+                if (aggregateId.equals(event.getAggregateId())) {
+                    events.add(event);
+                }
+            }
+            return events;
+        }
+    }
+
+    @TestConfiguration
+    static class Listeners {
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.campusmate.service;
+
+import com.campusmate.PostgresIntegrationTest;
+import com.campusmate.dto.request.ProjectJoinRequestDto;
+import com.campusmate.dto.request.ProjectJoinResponseDto;
+import com.campusmate.entity.Project;
+import com.campusmate.entity.ProjectJoinRequest;
+import com.campusmate.entity.User;
+import com.campusmate.enums.ProjectStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pending join request counters on projects and their leaders (ProjectService)
+ */
+class ProjectJoinRequestCountersTest extends PostgresIntegrationTest {
+
+    private static final int STUDENTS = 6;
+
+    @Autowired
+    private ProjectService projectService;
+
+    private User leader;
+    private Project project;
+
+    @BeforeEach
+    void createProject() {
+        leader = createUser("Leader");
+        project = projectService.createProject(new Project("Counter test", "Join request counters under concurrency",
+            "Research", leader, null, ProjectStatus.RECRUITING, 20, LocalDateTime.now().plusMonths(1)));
+    }
+
+    @Test
+    void concurrentRequestsAreAllCounted() throws Exception {
+        List<Callable<Object>> requests = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            User student = createUser("Student");
+            requests.add(() -> projectService.requestToJoinProject(new ProjectJoinRequestDto(project.getId()), student.getEmail()));
+        }
+
+        assertTrue(failures(runConcurrently(requests)).isEmpty());
+        assertEquals(STUDENTS, projectService.getPendingJoinRequestCount(project.getId()));
+        assertEquals(STUDENTS, projectService.getPendingJoinRequestCountForLeader(leader.getEmail()));
+    }
+
+    @Test
+    void cachedCountsFollowChanges() {
+        User student = createUser("Student");
+        assertEquals(0, projectService.getPendingJoinRequestCount(project.getId()));
+        assertEquals(0, projectService.getPendingJoinRequestCountForLeader(leader.getEmail()));
+
+        ProjectJoinRequest request = projectService.requestToJoinProject(new ProjectJoinRequestDto(project.getId()), student.getEmail());
+        assertEquals(1, projectService.getPendingJoinRequestCount(project.getId()));
+        assertEquals(1, projectService.getPendingJoinRequestCountForLeader(leader.getEmail()));
+
+        projectService.respondToJoinRequest(new ProjectJoinResponseDto(request.getId(), "reject"), leader.getEmail());
+        assertEquals(0, projectService.getPendingJoinRequestCount(project.getId()));
+        assertEquals(0, projectService.getPendingJoinRequestCountForLeader(leader.getEmail()));
+    }
+
+    @Test
+    void respondingAndCancellingTheSameRequestCountsItOnce() throws Exception {
+        User student = createUser("Student");
+        ProjectJoinRequest request = projectService.requestToJoinProject(new ProjectJoinRequestDto(project.getId()), student.getEmail());
+
+        List<Object> outcomes = runConcurrently(List.of(
+            () -> projectService.respondToJoinRequest(new ProjectJoinResponseDto(request.getId(), "approve"), leader.getEmail()),
+            () -> {
+                projectService.cancelJoinRequest(request.getId(), student.getEmail());
+                return null;
+            }));
+
+        // Whichever runs second finds the request processed or gone
+        assertEquals(1, failures(outcomes).size());
+        assertEquals(0, projectService.getPendingJoinRequestCount(project.getId()));
+        assertEquals(0, projectService.getPendingJoinRequestCountForLeader(leader.getEmail()));
+    }
+
+    @Test
+    void deletingAProjectTakesItsRequestsOffTheLeaderCount() {
+        for (int i = 0; i < 3; i++) {
+            projectService.requestToJoinProject(new ProjectJoinRequestDto(project.getId()), createUser("Student").getEmail());
+        }
+        assertEquals(3, projectService.getPendingJoinRequestCountForLeader(leader.getEmail()));
+
+        projectService.deleteProject(project.getId(), leader.getEmail());
+        assertEquals(0, projectService.getPendingJoinRequestCountForLeader(leader.getEmail()));
+    }
+}
@@ -0,0 +1,96 @@
+package com.campusmate.service;
+
+import com.campusmate.PostgresIntegrationTest;
+import com.campusmate.dto.response.ProjectMatchResponseDto;
+import com.campusmate.entity.Project;
+import com.campusmate.enums.ProjectStatus;
+import com.campusmate.event.DomainEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Which projects the skill index holds and how it follows changes (ProjectMatchingService)
+ */
+class ProjectMatchingServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ProjectMatchingService matchingService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void onlyRecruitingProjectsAreIndexed() {
+        String skill = "skill-" + UUID.randomUUID();
+        Project recruiting = createProject(skill, ProjectStatus.RECRUITING);
+        createProject(skill, ProjectStatus.ACTIVE);
+        createProject(skill, ProjectStatus.COMPLETED);
+
+        assertEquals(List.of(recruiting.getId()), matches(skill));
+    }
+
+    @Test
+    void aProjectEventFromAnotherNodeDropsAFinishedProject() {
+        String skill = "skill-" + UUID.randomUUID();
+        Project project = createProject(skill, ProjectStatus.RECRUITING);
+        assertEquals(List.of(project.getId()), matches(skill));
+
+        // Written elsewhere: this node only learns about it through the event
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE projects SET status = ? WHERE id = ?", ProjectStatus.OVERDUE.name(), project.getId());
+            outboxService.record(DomainEvent.PROJECT, project.getId(), "ProjectOverdue");
+        });
+        outboxRelay.relay();
+
+        assertTrue(matches(skill).isEmpty());
+    }
+
+    @Test
+    void rebuildPicksUpChangesThatSentNoEvent() {
+        String skill = "skill-" + UUID.randomUUID();
+        Project project = createProject(skill, ProjectStatus.ACTIVE);
+        jdbcTemplate.update("UPDATE projects SET status = ? WHERE id = ?", ProjectStatus.RECRUITING.name(), project.getId());
+        assertTrue(matches(skill).isEmpty());
+
+        matchingService.rebuildIndex();
+
+        assertEquals(List.of(project.getId()), matches(skill));
+    }
+
+    private Project createProject(String skill, ProjectStatus status) {
+        Project project = new Project("Matching " + status, "Skill index test", "Research",
+            createUser("Leader"), null, status, 4, LocalDateTime.now().plusMonths(1));
+        project.setSkillsRequired(new HashSet<>(Set.of(skill)));
+        return projectService.createProject(project);
+    }
+
+    private List<String> matches(String skill) {
+        return matchingService.findMatchingProjects(Set.of(skill), 10).stream()
+            .map(ProjectMatchResponseDto::getProjectId)
+            .toList();
+    }
+}
@@ -0,0 +1,115 @@
+package com.campusmate.service;
+
+import com.campusmate.PostgresIntegrationTest;
+import com.campusmate.entity.RefreshTokenFamily;
+import com.campusmate.entity.User;
+import com.campusmate.repository.RefreshTokenFamilyRepository;
+import com.campusmate.security.TokenRevocationIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Refresh token rotation and reuse detection (RefreshTokenService)
+ */
+class RefreshTokenServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenFamilyRepository familyRepository;
+
+    @Autowired
+    private TokenRevocationIndex revocationIndex;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rotationIssuesANewTokenInTheSameFamily() {
+        RefreshTokenService.TokenPair login = refreshTokenService.startSession(createUser("Student"));
+
+        RefreshTokenService.TokenPair rotated = refreshTokenService.rotate(login.getRefreshToken()).get();
+
+        assertNotEquals(login.getRefreshToken(), rotated.getRefreshToken());
+        assertEquals(familyOf(login), familyOf(rotated));
+        assertTrue(refreshTokenService.rotate(rotated.getRefreshToken()).isPresent());
+        assertFalse(revocationIndex.isRevoked(familyOf(login)));
+    }
+
+    @Test
+    void replayingAUsedTokenRevokesTheWholeFamily() {
+        RefreshTokenService.TokenPair login = refreshTokenService.startSession(createUser("Student"));
+        RefreshTokenService.TokenPair rotated = refreshTokenService.rotate(login.getRefreshToken()).get();
+
+        assertTrue(refreshTokenService.rotate(login.getRefreshToken()).isEmpty());
+
+        // The legitimate holder of the newest token is logged out too
+        assertTrue(refreshTokenService.rotate(rotated.getRefreshToken()).isEmpty());
+        RefreshTokenFamily family = familyRepository.findById(familyOf(login)).get();
+        assertEquals(RefreshTokenFamily.REASON_REUSE, family.getRevokeReason());
+        assertTrue(revocationIndex.isRevoked(jwtService.extractFamilyId(rotated.getAccessToken())));
+    }
+
+    @Test
+    void concurrentRotationsOfOneTokenLetOnlyOneThrough() throws Exception {
+        RefreshTokenService.TokenPair login = refreshTokenService.startSession(createUser("Student"));
+        List<Callable<Object>> rotations = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            rotations.add(() -> refreshTokenService.rotate(login.getRefreshToken()));
+        }
+
+        List<Object> outcomes = runConcurrently(rotations);
+
+        assertTrue(failures(outcomes).isEmpty());
+        int issued = 0;
+        for (Object outcome : outcomes) {
+            if (((Optional<?>) outcome).isPresent()) {
+                issued++;
+            }
+        }
+        assertEquals(1, issued);
+        // The losers presented an already used token, which counts as a replay
+        assertEquals(RefreshTokenFamily.REASON_REUSE, familyRepository.findById(familyOf(login)).get().getRevokeReason());
+    }
+
+    @Test
+    void logoutRevokesTheFamily() {
+        RefreshTokenService.TokenPair login = refreshTokenService.startSession(createUser("Student"));
+
+        assertTrue(refreshTokenService.revoke(login.getRefreshToken()));
+
+        assertTrue(refreshTokenService.rotate(login.getRefreshToken()).isEmpty());
+        assertEquals(RefreshTokenFamily.REASON_LOGOUT, familyRepository.findById(familyOf(login)).get().getRevokeReason());
+        assertTrue(revocationIndex.isRevoked(familyOf(login)));
+        assertFalse(refreshTokenService.revoke("not-a-refresh-token"));
+    }
+
+    @Test
+    void deactivatedUsersCannotRefresh() {
+        User user = createUser("Student");
+        RefreshTokenService.TokenPair login = refreshTokenService.startSession(user);
+        jdbcTemplate.update("UPDATE users SET is_active = FALSE WHERE id = ?", user.getId());
+
+        assertTrue(refreshTokenService.rotate(login.getRefreshToken()).isEmpty());
+        assertTrue(familyRepository.findById(familyOf(login)).get().isRevoked());
+    }
+
+    private String familyOf(RefreshTokenService.TokenPair pair) {
+        return jwtService.extractFamilyId(pair.getRefreshToken());
+    }
+}
@@ -0,0 +1,90 @@
+package com.campusmate.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7Test {
+
+    @Test
+    void idsAreVersion7WithTheRfcVariant() {
+        UUID id = UuidV7.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void idsIncreaseAsUuidsAndAsStrings() {
+        // Far more than 4096 per millisecond, so the sequence overflows into later milliseconds
+        UUID previous = UuidV7.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.next();
+            assertTrue(next.compareTo(previous) > 0, next + " does not sort after " + previous);
+            assertTrue(next.toString().compareTo(previous.toString()) > 0, next + " does not sort after " + previous + " as text");
+            previous = next;
+        }
+    }
+
+    @Test
+    void idsFromConcurrentThreadsAreUniqueAndIncreasingPerThread() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<UUID>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    List<UUID> ids = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(UuidV7.next());
+                    }
+                    return ids;
+                }));
+            }
+
+            Set<Long> stamps = new HashSet<>();
+            for (Future<List<UUID>> future : futures) {
+                List<UUID> ids = future.get();
+                for (int i = 0; i < ids.size(); i++) {
+                    if (i > 0) {
+                        assertTrue(ids.get(i).compareTo(ids.get(i - 1)) > 0);
+                    }
+                    // Time and sequence alone are unique, whatever the random bits
+                    stamps.add(ids.get(i).getMostSignificantBits());
+                }
+            }
+            assertEquals(threads * perThread, stamps.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void timestampIsTheCreationTime() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.next();
+        long after = System.currentTimeMillis();
+
+        // Borrowing from later milliseconds under load may put it slightly ahead of the clock
+        long timestamp = UuidV7.timestamp(id);
+        assertTrue(timestamp >= before, "timestamp " + timestamp + " is before " + before);
+        assertTrue(timestamp <= after + 1_000, "timestamp " + timestamp + " is far past " + after);
+    }
+
+    @Test
+    void timestampRejectsOtherVersions() {
+        assertThrows(IllegalArgumentException.class, () -> UuidV7.timestamp(UUID.randomUUID()));
+    }
+}
@@ -26,7 +26,7 @@ interface Course {
     id: string;
     firstName: string;
     lastName: string;
-    email: string;
+    email?: string;
   };
   subject: {
     id: string;